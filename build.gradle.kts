@@ -38,6 +38,16 @@ group = "net.runelite"
 version = "2.8.1-SNAPSHOT"
 description = "RuneLite Launcher"
 
+// JMH benchmarks, run with ./gradlew jmh (-PjmhArgs="<args>" passes arguments to JMH, eg. a benchmark regex)
+val jmh: SourceSet by sourceSets.creating {
+    // benchmarks are in the launcher package to reach package-private code, and reuse test fixtures
+    compileClasspath += sourceSets.main.get().output + sourceSets.test.get().output
+    runtimeClasspath += sourceSets.main.get().output + sourceSets.test.get().output
+}
+
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.testImplementation.get())
+configurations[jmh.runtimeOnlyConfigurationName].extendsFrom(configurations.testRuntimeOnly.get())
+
 dependencies {
     implementation(libs.org.slf4j.slf4j.api)
     implementation(libs.ch.qos.logback.logback.classic)
@@ -56,6 +66,8 @@ dependencies {
     compileOnly(libs.org.projectlombok.lombok)
     annotationProcessor(libs.org.projectlombok.lombok)
     testImplementation(libs.junit.junit)
+    "jmhImplementation"(libs.org.openjdk.jmh.jmh.core)
+    "jmhAnnotationProcessor"(libs.org.openjdk.jmh.jmh.generator.annprocess)
 }
 
 tasks.withType<JavaCompile> {
@@ -90,6 +102,23 @@ checkstyle {
     configFile = file("checkstyle.xml")
 }
 
+tasks.register<JavaExec>("jmh") {
+    description = "Runs the JMH benchmarks."
+    group = "verification"
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    args((project.findProperty("jmhArgs") as String?)?.split(" ") ?: emptyList<String>())
+}
+
+// end-to-end launch timings against a local server, run with ./gradlew launchBenchmark (-PlaunchBenchmarkIterations=N)
+tasks.register<JavaExec>("launchBenchmark") {
+    description = "Times launches against a local bootstrap and artifact server."
+    group = "verification"
+    classpath = sourceSets.test.get().runtimeClasspath
+    mainClass.set("net.runelite.launcher.LaunchBenchmark")
+    project.findProperty("launchBenchmarkIterations")?.let { args(it) }
+}
+
 tasks.register<Copy>("filterAppimage") {
     from("appimage/runelite.desktop")
     into("build/filtered-resources")
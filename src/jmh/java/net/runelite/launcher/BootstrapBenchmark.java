@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.launcher;
+
+import com.google.gson.Gson;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import net.runelite.launcher.beans.Artifact;
+import net.runelite.launcher.beans.Bootstrap;
+import net.runelite.launcher.beans.Diff;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BootstrapBenchmark
+{
+	@Param({"60", "240"})
+	public int artifacts;
+
+	private byte[] bootstrap;
+
+	@Setup
+	public void setup()
+	{
+		bootstrap = new Gson().toJson(bootstrap(artifacts)).getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public Bootstrap parse()
+	{
+		return Launcher.parseBootstrap(new ByteArrayInputStream(bootstrap));
+	}
+
+	// a bootstrap shaped like the real one, with a couple of diffs for each artifact
+	static Bootstrap bootstrap(int numArtifacts)
+	{
+		Artifact[] artifacts = new Artifact[numArtifacts];
+		for (int i = 0; i < numArtifacts; ++i)
+		{
+			Diff[] diffs = new Diff[2];
+			for (int j = 0; j < diffs.length; ++j)
+			{
+				Diff diff = new Diff();
+				diff.setName("artifact-" + i + "-" + j + ".diff.gz");
+				diff.setFrom("artifact-" + i + "-" + j + ".jar");
+				diff.setFromHash(hash(i * 31 + j));
+				diff.setHash(hash(i * 37 + j));
+				diff.setPath("https://repo.runelite.net/net/runelite/diffs/artifact-" + i + "-" + j + ".diff.gz");
+				diff.setSize(12345);
+				diffs[j] = diff;
+			}
+
+			Artifact artifact = new Artifact();
+			artifact.setName("artifact-" + i + ".jar");
+			artifact.setPath("https://repo.runelite.net/net/runelite/artifact/" + i + "/artifact-" + i + ".jar");
+			artifact.setHash(hash(i));
+			artifact.setSize(1234567);
+			artifact.setDiffs(diffs);
+			artifacts[i] = artifact;
+		}
+
+		Bootstrap bootstrap = new Bootstrap();
+		bootstrap.setArtifacts(artifacts);
+		bootstrap.setClientJvm17Arguments(new String[]{"-XX:+DisableAttachMechanism", "-Xmx768m", "-Xss2m"});
+		bootstrap.setRequiredLauncherVersion("2.6.0");
+		return bootstrap;
+	}
+
+	private static String hash(int i)
+	{
+		return String.format("%064x", i);
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.launcher;
+
+import com.google.gson.Gson;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GzipBodyHandlerBenchmark
+{
+	private static final HttpResponse.ResponseInfo GZIP_RESPONSE = new HttpResponse.ResponseInfo()
+	{
+		@Override
+		public int statusCode()
+		{
+			return 200;
+		}
+
+		@Override
+		public HttpHeaders headers()
+		{
+			return HttpHeaders.of(Map.of("Content-Encoding", List.of("gzip")), (k, v) -> true);
+		}
+
+		@Override
+		public HttpClient.Version version()
+		{
+			return HttpClient.Version.HTTP_2;
+		}
+	};
+
+	private List<ByteBuffer> body;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		byte[] bootstrap = new Gson().toJson(BootstrapBenchmark.bootstrap(120)).getBytes(StandardCharsets.UTF_8);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out))
+		{
+			gzip.write(bootstrap);
+		}
+
+		// deliver the body in chunks like the http client does
+		byte[] gzipped = out.toByteArray();
+		ByteBuffer[] chunks = new ByteBuffer[(gzipped.length + 16383) / 16384];
+		for (int i = 0; i < chunks.length; ++i)
+		{
+			int offset = i * 16384;
+			chunks[i] = ByteBuffer.wrap(gzipped, offset, Math.min(16384, gzipped.length - offset));
+		}
+		body = List.of(chunks);
+	}
+
+	@Benchmark
+	public long decompress() throws IOException
+	{
+		HttpResponse.BodySubscriber<InputStream> subscriber = GzipBodyHandler.ofInputStream().apply(GZIP_RESPONSE);
+		subscriber.onSubscribe(new Flow.Subscription()
+		{
+			@Override
+			public void request(long n)
+			{
+			}
+
+			@Override
+			public void cancel()
+			{
+			}
+		});
+		for (ByteBuffer chunk : body)
+		{
+			subscriber.onNext(List.of(chunk.duplicate()));
+		}
+		subscriber.onComplete();
+
+		long total = 0;
+		try (InputStream in = subscriber.getBody().toCompletableFuture().join())
+		{
+			byte[] buffer = new byte[8192];
+			int i;
+			while ((i = in.read(buffer)) != -1)
+			{
+				total += i;
+			}
+		}
+		return total;
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.launcher;
+
+import com.google.archivepatcher.applier.FileByFileV1DeltaApplier;
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PatchBenchmark
+{
+	@Param({"4194304", "33554432"})
+	public int size;
+
+	private File old;
+	private byte[] patch;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		Random random = new Random(42);
+		byte[] oldData = new byte[size];
+		random.nextBytes(oldData);
+		// the new file changes a few regions of the old, and grows a little
+		byte[] newData = new byte[size + 4096];
+		System.arraycopy(oldData, 0, newData, 0, size);
+		for (int i = 0; i < 64; ++i)
+		{
+			newData[random.nextInt(newData.length)] = (byte) random.nextInt();
+		}
+
+		old = File.createTempFile("patchbenchmark", ".jar");
+		Files.write(old.toPath(), oldData);
+		patch = TestPatches.patch(oldData, newData);
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		old.delete();
+	}
+
+	@Benchmark
+	public void apply() throws IOException
+	{
+		try (InputStream patchStream = new GZIPInputStream(new ByteArrayInputStream(patch)))
+		{
+			new FileByFileV1DeltaApplier().applyDelta(old, patchStream, ByteStreams.nullOutputStream());
+		}
+	}
+}
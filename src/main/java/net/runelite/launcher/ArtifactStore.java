@@ -0,0 +1,384 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.launcher;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.launcher.beans.Artifact;
+
+/**
+ * Content addressed store of artifacts, keyed by their sha256, which can be shared by the repositories of several
+ * users or installs so that each artifact is only downloaded once per machine. Artifacts are hard linked between the
+ * store and the repository where possible, so that they are only stored once too.
+ * <p>
+ * Entries are always checked against the hash from the bootstrap before they are used. Entries owned by another user
+ * are copied instead of linked, since the owner could otherwise change them after they have been verified. A linked
+ * entry is the same file as the repository's copy and keeps its permissions, so other users can only use it if the
+ * repository is readable by them; entries which are copied into the store are made readable by everyone.
+ * <p>
+ * Each repository records the entries it has added or linked in a file under refs, and an entry is only deleted
+ * once the last repository referencing it no longer uses it. The store has a lock of its own, since it is shared
+ * by repositories whose launchers don't share a repository lock.
+ */
+@Slf4j
+class ArtifactStore
+{
+	private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+	private static final Pattern ID = Pattern.compile("[0-9a-f-]{36}");
+	// file locks are held by the whole process, so its threads take turns at the store lock first
+	private static final Object LOCK = new Object();
+
+	private final File dir;
+	private final File lockFile;
+	private final File refsDir;
+	// the entries this repository has added or linked
+	private final File refsFile;
+
+	private ArtifactStore(File dir, String id)
+	{
+		this.dir = dir;
+		this.lockFile = new File(dir, "store.lock");
+		this.refsDir = new File(dir, "refs");
+		this.refsFile = new File(refsDir, id);
+	}
+
+	@Nullable
+	static ArtifactStore open(LauncherSettings settings, File repoDir)
+	{
+		if (settings.artifactStore == null)
+		{
+			return null;
+		}
+
+		File dir = new File(settings.artifactStore);
+		if (!dir.isDirectory() && !dir.mkdirs())
+		{
+			log.warn("unable to create artifact store {}", dir);
+			return null;
+		}
+
+		final String id;
+		try
+		{
+			id = id(repoDir);
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to identify the repository to the artifact store", ex);
+			return null;
+		}
+
+		ArtifactStore store = new ArtifactStore(dir, id);
+		if (!store.refsDir.isDirectory() && !store.refsDir.mkdirs())
+		{
+			log.warn("unable to create directory {}", store.refsDir);
+			return null;
+		}
+
+		try
+		{
+			if (store.lockFile.createNewFile())
+			{
+				// the other users of the store lock it too
+				store.lockFile.setWritable(true, false);
+				store.refsDir.setWritable(true, false);
+			}
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to create {}", store.lockFile, ex);
+		}
+
+		log.debug("Using artifact store {}", dir);
+		return store;
+	}
+
+	// The id the repository's references are recorded under, which is kept beside the repository so that it survives
+	// the repository being cleaned
+	private static String id(File repoDir) throws IOException
+	{
+		final File idFile = new File(repoDir.getParentFile(), repoDir.getName() + ".store-id");
+		try
+		{
+			String id = Files.readString(idFile.toPath(), StandardCharsets.UTF_8).trim();
+			if (ID.matcher(id).matches())
+			{
+				return id;
+			}
+		}
+		catch (NoSuchFileException ex)
+		{
+			log.debug("repository has no artifact store id yet");
+		}
+
+		File tmpFile = File.createTempFile(idFile.getName(), Launcher.TMP_SUFFIX, idFile.getParentFile());
+		try
+		{
+			String id = UUID.randomUUID().toString();
+			Files.writeString(tmpFile.toPath(), id, StandardCharsets.UTF_8);
+			Launcher.atomicMove(tmpFile, idFile);
+			return id;
+		}
+		finally
+		{
+			tmpFile.delete();
+		}
+	}
+
+	// Put the artifact in the repository from the store, returning true if the store had it
+	boolean fetch(Artifact artifact, File dest, HashCache hashCache)
+	{
+		File file = file(artifact.getHash());
+		if (file == null || !file.isFile())
+		{
+			return false;
+		}
+
+		final File tmp = new File(dest.getPath() + Launcher.TMP_SUFFIX);
+		try
+		{
+			Files.deleteIfExists(tmp.toPath());
+
+			boolean linked = false;
+			if (isOwned(file))
+			{
+				// so that another repository doesn't clean the entry between it being linked and referenced
+				synchronized (LOCK)
+				{
+					try (RepositoryLock storeLock = RepositoryLock.lock(lockFile))
+					{
+						Files.createLink(tmp.toPath(), file.toPath());
+						linked = true;
+						reference(artifact.getHash());
+					}
+					catch (IOException | UnsupportedOperationException ex)
+					{
+						log.debug("unable to link {}", file, ex);
+					}
+				}
+			}
+			if (!linked)
+			{
+				Files.copy(file.toPath(), tmp.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+
+			String hash = Launcher.hash(tmp);
+			if (!hash.equals(artifact.getHash()))
+			{
+				log.warn("Artifact store entry for {} is corrupt: got {} expected {}", artifact.getName(), hash, artifact.getHash());
+				if (linked)
+				{
+					file.delete();
+				}
+				return false;
+			}
+
+			Launcher.atomicMove(tmp, dest);
+			hashCache.record(dest, hash);
+			log.debug("{} {} from the artifact store", linked ? "Linked" : "Copied", artifact.getName());
+			return true;
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to fetch {} from the artifact store", artifact.getName(), ex);
+			return false;
+		}
+		finally
+		{
+			tmp.delete();
+		}
+	}
+
+	// Add a verified artifact from the repository to the store
+	void add(Artifact artifact, File src)
+	{
+		File file = file(artifact.getHash());
+		if (file == null || file.exists())
+		{
+			return;
+		}
+
+		synchronized (LOCK)
+		{
+			try (RepositoryLock storeLock = RepositoryLock.lock(lockFile))
+			{
+				try
+				{
+					Files.createLink(file.toPath(), src.toPath());
+				}
+				catch (FileAlreadyExistsException ex)
+				{
+					// added by another launcher
+					return;
+				}
+				catch (IOException | UnsupportedOperationException ex)
+				{
+					// eg. the store is on another filesystem
+					log.debug("unable to link {}, copying it instead", src, ex);
+					File tmp = File.createTempFile(artifact.getHash(), Launcher.TMP_SUFFIX, dir);
+					try
+					{
+						Files.copy(src.toPath(), tmp.toPath(), StandardCopyOption.REPLACE_EXISTING);
+						// let the other users of the store read it. Links are left alone, since they are the
+						// repository's own file.
+						tmp.setReadable(true, false);
+						Launcher.atomicMove(tmp, file);
+					}
+					finally
+					{
+						tmp.delete();
+					}
+				}
+
+				reference(artifact.getHash());
+				log.debug("Added {} to the artifact store", artifact.getName());
+			}
+			catch (IOException ex)
+			{
+				log.warn("unable to add {} to the artifact store", artifact.getName(), ex);
+			}
+		}
+	}
+
+	// Delete the entries this repository added or linked and no longer uses, unless another repository still does
+	void clean(List<Artifact> artifacts)
+	{
+		Set<String> current = artifacts.stream()
+			.map(Artifact::getHash)
+			.collect(Collectors.toSet());
+
+		synchronized (LOCK)
+		{
+			try (RepositoryLock storeLock = RepositoryLock.lock(lockFile))
+			{
+				Set<String> referenced = references(refsFile);
+				Set<String> unused = new HashSet<>(referenced);
+				unused.removeAll(current);
+				if (unused.isEmpty())
+				{
+					return;
+				}
+
+				File[] refsFiles = refsDir.listFiles();
+				if (refsFiles == null)
+				{
+					return;
+				}
+
+				for (File otherRefsFile : refsFiles)
+				{
+					if (!otherRefsFile.equals(refsFile) && ID.matcher(otherRefsFile.getName()).matches())
+					{
+						unused.removeAll(references(otherRefsFile));
+					}
+				}
+
+				for (String hash : unused)
+				{
+					File file = file(hash);
+					if (file != null && file.delete())
+					{
+						log.debug("Deleted unused artifact store entry {}", file);
+					}
+				}
+
+				referenced.retainAll(current);
+				writeReferences(referenced);
+			}
+			catch (IOException ex)
+			{
+				log.warn("unable to clean the artifact store", ex);
+			}
+		}
+	}
+
+	// Record that this repository uses the entry, with the store locked
+	private void reference(String hash) throws IOException
+	{
+		Set<String> referenced = references(refsFile);
+		if (referenced.add(hash))
+		{
+			writeReferences(referenced);
+		}
+	}
+
+	private static Set<String> references(File refsFile) throws IOException
+	{
+		try
+		{
+			return Files.readAllLines(refsFile.toPath(), StandardCharsets.UTF_8).stream()
+				.filter(hash -> HASH.matcher(hash).matches())
+				.collect(Collectors.toCollection(HashSet::new));
+		}
+		catch (NoSuchFileException ex)
+		{
+			return new HashSet<>();
+		}
+	}
+
+	private void writeReferences(Set<String> referenced) throws IOException
+	{
+		File tmpFile = File.createTempFile(refsFile.getName(), Launcher.TMP_SUFFIX, refsDir);
+		try
+		{
+			Files.write(tmpFile.toPath(), referenced, StandardCharsets.UTF_8);
+			// the other users of the store read it when they clean
+			tmpFile.setReadable(true, false);
+			Launcher.atomicMove(tmpFile, refsFile);
+		}
+		finally
+		{
+			tmpFile.delete();
+		}
+	}
+
+	@Nullable
+	private File file(String hash)
+	{
+		// the hash becomes a file name, so make sure it is one
+		return hash != null && HASH.matcher(hash).matches() ? new File(dir, hash) : null;
+	}
+
+	private static boolean isOwned(File file) throws IOException
+	{
+		var owner = Files.getOwner(file.toPath());
+		var user = FileSystems.getDefault().getUserPrincipalLookupService().lookupPrincipalByName(System.getProperty("user.name"));
+		return owner.equals(user);
+	}
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.launcher;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.util.Base64;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The last verified bootstrap and its signature, along with the validators they were served with, so
+ * that later launches can request them conditionally and reuse the cached copies if they are unchanged.
+ */
+@Slf4j
+class BootstrapCache
+{
+	static final File BOOTSTRAP_CACHE_FILE = new File(Launcher.RUNELITE_DIR, "bootstrap-cache.json");
+
+	static class Resource
+	{
+		String url;
+		// base64
+		String body;
+		String etag;
+		String lastModified;
+		private transient byte[] bytes;
+
+		byte[] bytes()
+		{
+			if (bytes == null)
+			{
+				bytes = Base64.getDecoder().decode(body);
+			}
+			return bytes;
+		}
+	}
+
+	@Nullable
+	Resource bootstrap;
+	@Nullable
+	Resource signature;
+
+	static BootstrapCache load()
+	{
+		return load(BOOTSTRAP_CACHE_FILE);
+	}
+
+	static BootstrapCache load(File file)
+	{
+		try (var in = new InputStreamReader(Files.newInputStream(file.toPath()), StandardCharsets.UTF_8))
+		{
+			BootstrapCache cache = new Gson().fromJson(in, BootstrapCache.class);
+			if (cache != null)
+			{
+				return cache;
+			}
+		}
+		catch (NoSuchFileException ex)
+		{
+			log.debug("bootstrap cache does not exist");
+		}
+		catch (IOException | JsonParseException ex)
+		{
+			log.warn("unable to load bootstrap cache", ex);
+		}
+		return new BootstrapCache();
+	}
+
+	void save()
+	{
+		save(BOOTSTRAP_CACHE_FILE);
+	}
+
+	void save(File file)
+	{
+		File tmpFile = null;
+		try
+		{
+			tmpFile = File.createTempFile(file.getName(), Launcher.TMP_SUFFIX, file.getParentFile());
+
+			try (FileOutputStream fout = new FileOutputStream(tmpFile);
+				FileChannel channel = fout.getChannel();
+				OutputStreamWriter writer = new OutputStreamWriter(fout, StandardCharsets.UTF_8))
+			{
+				new Gson().toJson(this, writer);
+				writer.flush();
+				channel.force(true);
+			}
+
+			Launcher.atomicMove(tmpFile, file);
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to save bootstrap cache", ex);
+		}
+		finally
+		{
+			if (tmpFile != null)
+			{
+				// left behind if it couldn't be written or moved into place
+				tmpFile.delete();
+			}
+		}
+	}
+
+	// the cached copy of the resource, if it was fetched from the same url and is intact
+	@Nullable
+	static Resource cached(@Nullable Resource resource, String url)
+	{
+		if (resource == null || !url.equals(resource.url) || resource.body == null)
+		{
+			return null;
+		}
+
+		try
+		{
+			resource.bytes();
+		}
+		catch (IllegalArgumentException ex)
+		{
+			log.warn("cached copy of {} is corrupt", url, ex);
+			return null;
+		}
+		return resource;
+	}
+
+	// make the request conditional on the resource having changed since it was cached
+	static void addValidators(HttpRequest.Builder builder, @Nullable Resource cached)
+	{
+		if (cached == null)
+		{
+			return;
+		}
+
+		if (cached.etag != null)
+		{
+			builder.header("If-None-Match", cached.etag);
+		}
+		if (cached.lastModified != null)
+		{
+			builder.header("If-Modified-Since", cached.lastModified);
+		}
+	}
+
+	static Resource resource(String url, HttpResponse<?> response, byte[] body)
+	{
+		var resource = new Resource();
+		resource.url = url;
+		resource.body = Base64.getEncoder().encodeToString(body);
+		resource.etag = response.headers().firstValue("ETag").orElse(null);
+		resource.lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+		return resource;
+	}
+}
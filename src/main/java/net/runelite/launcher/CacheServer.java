@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.launcher;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.security.SignatureException;
+import java.security.cert.CertificateException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.launcher.beans.Artifact;
+import net.runelite.launcher.beans.Bootstrap;
+
+/**
+ * Serves verified artifacts over HTTP by their sha256, for launchers on the local network to use as their
+ * --artifact-mirror. The artifacts of every platform in the bootstrap are kept in a repository of the server's own,
+ * so that the server can be shared by machines of any platform without normal launches on the same machine cleaning
+ * them out. The bootstrap is fetched again periodically to pick up new releases.
+ * <p>
+ * The launchers verify what they download against the hashes in their own signed bootstrap, so the server does
+ * not need to be trusted.
+ */
+@Slf4j
+class CacheServer
+{
+	static final int DEFAULT_PORT = 8585;
+
+	static final File CACHE_SERVER_DIR = new File(Launcher.RUNELITE_DIR, "cache-server");
+	private static final File LOCK_FILE = new File(Launcher.RUNELITE_DIR, "cache-server.lock");
+
+	private static final Pattern PATH = Pattern.compile("/([0-9a-f]{64})");
+	private static final long REFRESH_INTERVAL_MINUTES = 5;
+
+	private final LauncherSettings settings;
+	// artifact files by hash
+	private volatile Map<String, File> artifacts = Map.of();
+	private volatile HashCache hashCache;
+
+	CacheServer(LauncherSettings settings)
+	{
+		this.settings = settings;
+		this.hashCache = HashCache.load(settings.isParanoid());
+	}
+
+	static void serve(LauncherSettings settings, int port, List<Artifact> verifiedArtifacts) throws IOException
+	{
+		final CacheServer cacheServer = new CacheServer(settings);
+		// serve the artifacts which have just been verified in the launcher's repository until the server's own
+		// repository is downloaded
+		cacheServer.index(Launcher.REPO_DIR, verifiedArtifacts);
+
+		final HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
+		server.createContext("/", cacheServer::handle);
+		// the server threads keep the launcher running once main returns
+		server.setExecutor(Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+			.setNameFormat("cache-server-%d")
+			.build()));
+		server.start();
+		log.info("Cache server listening on port {}", port);
+
+		final ScheduledExecutorService refreshExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+			.setNameFormat("cache-server-refresh")
+			.setDaemon(true)
+			.build());
+		refreshExecutor.scheduleWithFixedDelay(cacheServer::refresh, 0, REFRESH_INTERVAL_MINUTES, TimeUnit.MINUTES);
+	}
+
+	void handle(HttpExchange exchange) throws IOException
+	{
+		try
+		{
+			final String method = exchange.getRequestMethod();
+			final boolean head = method.equals("HEAD");
+			if (!head && !method.equals("GET"))
+			{
+				exchange.sendResponseHeaders(405, -1);
+				return;
+			}
+
+			final Matcher matcher = PATH.matcher(exchange.getRequestURI().getPath());
+			if (!matcher.matches())
+			{
+				exchange.sendResponseHeaders(404, -1);
+				return;
+			}
+
+			final String hash = matcher.group(1);
+			final File file = file(hash);
+			if (file == null)
+			{
+				log.debug("{} requested unknown artifact {}", exchange.getRemoteAddress(), hash);
+				exchange.sendResponseHeaders(404, -1);
+				return;
+			}
+
+			log.debug("Serving {} to {}", file.getName(), exchange.getRemoteAddress());
+			exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+			exchange.sendResponseHeaders(200, head ? -1 : file.length());
+			if (!head)
+			{
+				try (OutputStream out = exchange.getResponseBody())
+				{
+					Files.copy(file.toPath(), out);
+				}
+			}
+		}
+		catch (IOException ex)
+		{
+			log.debug("error serving {} to {}", exchange.getRequestURI(), exchange.getRemoteAddress(), ex);
+			throw ex;
+		}
+		finally
+		{
+			exchange.close();
+		}
+	}
+
+	// the artifact with the hash if it is in the repository and still matches the hash
+	@Nullable
+	private File file(String hash)
+	{
+		final File file = artifacts.get(hash);
+		if (file == null)
+		{
+			return null;
+		}
+
+		try
+		{
+			// normal launches on this machine update the repository too
+			return hash.equals(hashCache.hash(file)) ? file : null;
+		}
+		catch (IOException ex)
+		{
+			log.debug("unable to hash {}", file, ex);
+			return null;
+		}
+	}
+
+	// Download the artifacts of all platforms from the latest bootstrap
+	private void refresh()
+	{
+		if (!CACHE_SERVER_DIR.exists() && !CACHE_SERVER_DIR.mkdirs())
+		{
+			log.warn("unable to create directory {}", CACHE_SERVER_DIR);
+			return;
+		}
+
+		final Bootstrap bootstrap;
+		try
+		{
+			bootstrap = Launcher.getBootstrap();
+		}
+		catch (IOException | RuntimeException | VerificationException | CertificateException | SignatureException | InvalidKeyException | NoSuchAlgorithmException ex)
+		{
+			log.warn("error fetching bootstrap", ex);
+			return;
+		}
+
+		final List<Artifact> latestArtifacts = Arrays.asList(bootstrap.getArtifacts());
+		// a lock of its own, so that launches on this machine don't wait for the artifacts of every platform to download.
+		// The hash cache is written atomically, so at worst a launch saving it at the same time drops the other's entries,
+		// and the artifact store is locked separately.
+		try (RepositoryLock repositoryLock = RepositoryLock.lock(LOCK_FILE))
+		{
+			Launcher.clean(CACHE_SERVER_DIR, latestArtifacts);
+			final ArtifactStore artifactStore = ArtifactStore.open(settings, CACHE_SERVER_DIR);
+			if (artifactStore != null)
+			{
+				artifactStore.clean(latestArtifacts);
+			}
+
+			final HashCache latestHashCache = HashCache.load(settings.isParanoid());
+			Launcher.download(CACHE_SERVER_DIR, latestArtifacts, MirrorList.of(settings, bootstrap), settings, latestHashCache, artifactStore);
+			Launcher.verifyJarHashes(CACHE_SERVER_DIR, latestArtifacts, latestHashCache);
+			latestHashCache.save();
+
+			hashCache = latestHashCache;
+			index(CACHE_SERVER_DIR, latestArtifacts);
+		}
+		catch (IOException | RuntimeException | VerificationException ex)
+		{
+			log.warn("unable to update the cache", ex);
+		}
+	}
+
+	void index(File repoDir, List<Artifact> latestArtifacts)
+	{
+		final Map<String, File> files = new HashMap<>();
+		for (Artifact artifact : latestArtifacts)
+		{
+			files.put(artifact.getHash(), new File(repoDir, artifact.getName()));
+		}
+		artifacts = files;
+		log.info("Serving {} artifacts", files.size());
+	}
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.launcher;
+
+import com.google.common.base.Strings;
+import com.google.common.hash.HashCode;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.launcher.beans.Artifact;
+
+/**
+ * Dynamic class data sharing archives of the client and the launcher. The client JVM writes its archive when it
+ * exits the first time a set of artifacts is launched, and later launches of the same artifacts map the archived
+ * classes in instead of loading and verifying them from the jars again. The launcher archive works the same way,
+ * through the vm args in the packr config.
+ * <p>
+ * Several JVMs can be creating the same archive at once, so each writes to its own temporary file, which a later
+ * launch moves into place once it is complete.
+ */
+@Slf4j
+class CdsArchive
+{
+	static final File CDS_DIR = new File(Launcher.RUNELITE_DIR, "cds");
+
+	// the JVM writes the header, which starts with this, after the rest of the archive
+	private static final int DYNAMIC_ARCHIVE_MAGIC = 0xf00baba8;
+	// a temporary archive this old which still isn't complete was abandoned by a JVM which crashed
+	private static final long ABANDONED_AGE = TimeUnit.DAYS.toMillis(1);
+
+	static File archive(List<Artifact> artifacts)
+	{
+		// in FORK mode the launcher jar is on the client's classpath too
+		MessageDigest digest = launcherDigest();
+		for (Artifact artifact : artifacts)
+		{
+			update(digest, artifact.getName());
+			update(digest, artifact.getHash());
+			update(digest, new File(Launcher.REPO_DIR, artifact.getName()));
+		}
+		return new File(CDS_DIR, "client-" + HashCode.fromBytes(digest.digest()) + ".jsa");
+	}
+
+	static File launcherArchive()
+	{
+		return new File(CDS_DIR, "launcher-" + HashCode.fromBytes(launcherDigest().digest()) + ".jsa");
+	}
+
+	private static MessageDigest launcherDigest()
+	{
+		MessageDigest digest = jvmDigest();
+		update(digest, Strings.nullToEmpty(LauncherProperties.getVersion()));
+		final String classPath = System.getProperty("java.class.path");
+		update(digest, classPath);
+		for (String path : classPath.split(File.pathSeparator))
+		{
+			update(digest, new File(path));
+		}
+		return digest;
+	}
+
+	// archives can only be used with the classpath and JVM build they were created with
+	private static MessageDigest jvmDigest()
+	{
+		MessageDigest digest = Launcher.sha256();
+		update(digest, System.getProperty("java.home"));
+		update(digest, System.getProperty("java.runtime.version"));
+		return digest;
+	}
+
+	private static void update(MessageDigest digest, String value)
+	{
+		digest.update(value.getBytes(StandardCharsets.UTF_8));
+		// separate the values so they can't run together
+		digest.update((byte) 0);
+	}
+
+	// the JVM also refuses to map an archive if the size or modification time of a jar on the classpath has changed,
+	// eg. after it is downloaded again with the same hash, so a new archive is created then instead
+	private static void update(MessageDigest digest, File file)
+	{
+		update(digest, Long.toString(file.length()));
+		update(digest, Long.toString(file.lastModified()));
+	}
+
+	static List<String> jvmArgs(List<Artifact> artifacts)
+	{
+		File archive = archive(artifacts);
+		return jvmArgs(archive, install(archive));
+	}
+
+	// vm args for the next launch of the launcher
+	static List<String> launcherJvmArgs()
+	{
+		File archive = launcherArchive();
+		if (install(archive))
+		{
+			return jvmArgs(archive, true);
+		}
+
+		// if this launcher was started to create the archive, it is installed by the next launch once this exits, so
+		// keep the same vm args until then rather than creating another
+		return ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+			.filter(arg -> arg.startsWith("-XX:ArchiveClassesAtExit=" + archive.getAbsolutePath() + "."))
+			.findFirst()
+			.map(arg -> List.of(arg, "-Xlog:cds*=off"))
+			.orElseGet(() -> jvmArgs(archive, false));
+	}
+
+	// Move a complete temporary archive into place if the archive doesn't exist yet, returning if it exists
+	private static boolean install(File archive)
+	{
+		if (archive.isFile())
+		{
+			return true;
+		}
+
+		File[] temporaryArchives = CDS_DIR.listFiles((dir, name) -> isTemporary(name, archive));
+		if (temporaryArchives == null)
+		{
+			return false;
+		}
+
+		for (File temporaryArchive : temporaryArchives)
+		{
+			if (!isComplete(temporaryArchive))
+			{
+				continue;
+			}
+
+			try
+			{
+				Launcher.atomicMove(temporaryArchive, archive);
+				log.debug("Installed CDS archive {}", temporaryArchive);
+				return true;
+			}
+			catch (IOException ex)
+			{
+				// eg. another launcher moved it first
+				log.debug("unable to move {} into place", temporaryArchive, ex);
+			}
+		}
+		return archive.isFile();
+	}
+
+	private static boolean isTemporary(String name, File archive)
+	{
+		return name.startsWith(archive.getName() + ".") && name.endsWith(Launcher.TMP_SUFFIX);
+	}
+
+	private static boolean isComplete(File temporaryArchive)
+	{
+		try (FileChannel channel = FileChannel.open(temporaryArchive.toPath(), StandardOpenOption.READ))
+		{
+			ByteBuffer magic = ByteBuffer.allocate(4).order(ByteOrder.nativeOrder());
+			return channel.read(magic, 0) == 4 && magic.getInt(0) == DYNAMIC_ARCHIVE_MAGIC;
+		}
+		catch (IOException ex)
+		{
+			log.debug("unable to read {}", temporaryArchive, ex);
+			return false;
+		}
+	}
+
+	private static List<String> jvmArgs(File archive, boolean exists)
+	{
+		if (!CDS_DIR.exists() && !CDS_DIR.mkdirs())
+		{
+			log.warn("unable to create directory {}", CDS_DIR);
+			return List.of();
+		}
+
+		String arg;
+		if (exists)
+		{
+			log.debug("Using CDS archive {}", archive);
+			arg = "-XX:SharedArchiveFile=" + archive.getAbsolutePath();
+		}
+		else
+		{
+			// a temporary file of its own, so that launches at the same time don't write the same file
+			File temporaryArchive = new File(archive.getPath() + "." + Long.toHexString(ThreadLocalRandom.current().nextLong()) + Launcher.TMP_SUFFIX);
+			log.debug("Creating CDS archive {} on exit", temporaryArchive);
+			arg = "-XX:ArchiveClassesAtExit=" + temporaryArchive.getAbsolutePath();
+		}
+
+		// the JVM falls back to loading classes normally if the archive is missing or can't be used, and warns about
+		// each class it is unable to archive, so turn off the cds logging to keep it out of the client log
+		return List.of(arg, "-Xlog:cds*=off");
+	}
+
+	// delete the archives other than those of the current artifacts and launcher
+	static void clean(List<Artifact> artifacts)
+	{
+		File[] existingFiles = CDS_DIR.listFiles();
+		if (existingFiles == null)
+		{
+			return;
+		}
+
+		File archive = archive(artifacts);
+		File launcherArchive = launcherArchive();
+		long now = System.currentTimeMillis();
+		for (File file : existingFiles)
+		{
+			if (!file.isFile() || file.equals(archive) || file.equals(launcherArchive))
+			{
+				continue;
+			}
+
+			// keep the archives still being created, until they are installed or abandoned
+			if ((isTemporary(file.getName(), archive) && !archive.isFile())
+				|| (isTemporary(file.getName(), launcherArchive) && !launcherArchive.isFile()))
+			{
+				if (isComplete(file) || now - file.lastModified() < ABANDONED_AGE)
+				{
+					continue;
+				}
+			}
+
+			// archives are created read-only, which prevents deleting them on Windows
+			file.setWritable(true);
+			if (file.delete())
+			{
+				log.debug("Deleted old CDS archive {}", file);
+			}
+			else
+			{
+				log.warn("Unable to delete old CDS archive {}", file);
+			}
+		}
+	}
+}
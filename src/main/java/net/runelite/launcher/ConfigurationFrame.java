@@ -60,6 +60,8 @@ public class ConfigurationFrame extends JFrame
 	private final JCheckBox chkboxNoUpdates;
 	private final JCheckBox chkboxSafemode;
 	private final JCheckBox chkboxIpv4;
+	private final JCheckBox chkboxParanoid;
+	private final JCheckBox chkboxNoCds;
 	private final JTextField txtScale;
 	private final JTextArea txtClientArguments;
 	private final JTextArea txtJvmArguments;
@@ -89,7 +91,7 @@ public class ConfigurationFrame extends JFrame
 
 		var topPanel = new JPanel();
 		topPanel.setBackground(DARKER_GRAY_COLOR);
-		topPanel.setLayout(new GridLayout(3, 2, 0, 0));
+		topPanel.setLayout(new GridLayout(4, 2, 0, 0));
 		topPanel.setBorder(BorderFactory.createEmptyBorder(0, 0, 8, 0));
 
 		topPanel.add(chkboxDebug = checkbox(
@@ -128,6 +130,18 @@ public class ConfigurationFrame extends JFrame
 			Boolean.TRUE.equals(settings.ipv4)
 		));
 
+		topPanel.add(chkboxParanoid = checkbox(
+			"Paranoid hashing",
+			"Rehashes all artifacts on every launch instead of trusting previously verified hashes",
+			Boolean.TRUE.equals(settings.paranoid)
+		));
+
+		topPanel.add(chkboxNoCds = checkbox(
+			"Disable class sharing",
+			"Loads the launcher and client classes from the jars on every launch instead of sharing them between launches",
+			Boolean.TRUE.equals(settings.nocds)
+		));
+
 		pane.add(topPanel);
 
 		var midPanel = new JPanel();
@@ -208,6 +222,8 @@ public class ConfigurationFrame extends JFrame
 		settings.noupdates = chkboxNoUpdates.isSelected();
 		settings.safemode = chkboxSafemode.isSelected();
 		settings.ipv4 = chkboxIpv4.isSelected();
+		settings.paranoid = chkboxParanoid.isSelected();
+		settings.nocds = chkboxNoCds.isSelected();
 
 		var t = txtScale.getText();
 		settings.scale = null;
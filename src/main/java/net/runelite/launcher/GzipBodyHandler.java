@@ -24,15 +24,15 @@
  */
 package net.runelite.launcher;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.UncheckedIOException;
+import java.io.InputStream;
 import java.net.http.HttpResponse;
 import java.util.zip.GZIPInputStream;
 
 class GzipBodyHandler
 {
-	public static HttpResponse.BodyHandler<byte[]> ofByteArray()
+	// The body as a stream, which is decompressed as it is read if the response is gzipped
+	public static HttpResponse.BodyHandler<InputStream> ofInputStream()
 	{
 		return responseInfo ->
 		{
@@ -41,23 +41,53 @@ class GzipBodyHandler
 				.contains("gzip");
 
 			return HttpResponse.BodySubscribers.mapping(
-				HttpResponse.BodySubscribers.ofByteArray(),
-				bytes ->
+				HttpResponse.BodySubscribers.ofInputStream(),
+				in -> isGzip ? gunzip(in) : in
+			);
+		};
+	}
+
+	// GZIPInputStream reads the gzip header when it is constructed, which must not be done in the
+	// mapping function as it would block waiting on the body, so it is created on the first read
+	private static InputStream gunzip(InputStream in)
+	{
+		return new InputStream()
+		{
+			private InputStream gzip;
+
+			private InputStream gzip() throws IOException
+			{
+				if (gzip == null)
 				{
-					if (!isGzip)
-					{
-						return bytes;
-					}
-					try (GZIPInputStream gis = new GZIPInputStream(new ByteArrayInputStream(bytes)))
-					{
-						return gis.readAllBytes();
-					}
-					catch (IOException e)
-					{
-						throw new UncheckedIOException(e);
-					}
+					gzip = new GZIPInputStream(in);
 				}
-			);
+				return gzip;
+			}
+
+			@Override
+			public int read() throws IOException
+			{
+				return gzip().read();
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException
+			{
+				return gzip().read(b, off, len);
+			}
+
+			@Override
+			public void close() throws IOException
+			{
+				if (gzip != null)
+				{
+					gzip.close();
+				}
+				else
+				{
+					in.close();
+				}
+			}
 		};
 	}
 }
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.launcher;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Index of the sha256 of files in the repository, keyed by the file path. A file is only considered
+ * unchanged if its size, modification time, and file key (inode) all still match what was recorded
+ * when it was hashed. Files hashed while being written are recorded too, so they are not read back
+ * again to be verified.
+ */
+@Slf4j
+class HashCache
+{
+	static final File HASH_CACHE_FILE = new File(Launcher.RUNELITE_DIR, "repository2-hashes.json");
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	static class Entry
+	{
+		long size;
+		long mtime;
+		String fileKey;
+		String hash;
+	}
+
+	// in paranoid mode the recorded hashes are not loaded, forcing every file to be rehashed
+	static HashCache load(boolean paranoid)
+	{
+		var cache = new HashCache();
+		if (paranoid)
+		{
+			log.debug("Paranoid hashing enabled, not loading hash cache");
+			return cache;
+		}
+
+		try (var in = new InputStreamReader(Files.newInputStream(HASH_CACHE_FILE.toPath()), StandardCharsets.UTF_8))
+		{
+			Map<String, Entry> entries = new Gson()
+				.fromJson(in, new TypeToken<Map<String, Entry>>()
+				{
+				}.getType());
+			if (entries != null)
+			{
+				entries.values().removeIf(Objects::isNull);
+				cache.entries.putAll(entries);
+			}
+			log.debug("Loaded {} entries from hash cache", cache.entries.size());
+		}
+		catch (NoSuchFileException ex)
+		{
+			log.debug("hash cache does not exist");
+		}
+		catch (IOException | JsonParseException ex)
+		{
+			log.warn("unable to load hash cache", ex);
+		}
+		return cache;
+	}
+
+	String hash(File file) throws IOException
+	{
+		BasicFileAttributes attributes;
+		try
+		{
+			attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+		}
+		catch (NoSuchFileException ex)
+		{
+			throw new FileNotFoundException(file.getAbsolutePath());
+		}
+
+		var key = file.getAbsolutePath();
+		var entry = entries.get(key);
+		if (entry != null && matches(entry, attributes))
+		{
+			StartupReport.hashCacheHits.incrementAndGet();
+			return entry.hash;
+		}
+
+		// the attributes are read prior to hashing so that a modification during hashing causes a mismatch next time
+		var hash = Launcher.hash(file);
+		StartupReport.filesHashed.incrementAndGet();
+		entries.put(key, entry(attributes, hash));
+		return hash;
+	}
+
+	// record the hash of a file which was computed while it was being written
+	void record(File file, String hash) throws IOException
+	{
+		var attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+		entries.put(file.getAbsolutePath(), entry(attributes, hash));
+	}
+
+	void save()
+	{
+		// drop entries for files which have since been removed
+		entries.keySet().removeIf(path -> !new File(path).isFile());
+
+		File tmpFile = null;
+		try
+		{
+			tmpFile = File.createTempFile(HASH_CACHE_FILE.getName(), Launcher.TMP_SUFFIX, HASH_CACHE_FILE.getParentFile());
+
+			try (FileOutputStream fout = new FileOutputStream(tmpFile);
+				FileChannel channel = fout.getChannel();
+				OutputStreamWriter writer = new OutputStreamWriter(fout, StandardCharsets.UTF_8))
+			{
+				new Gson().toJson(entries, writer);
+				writer.flush();
+				channel.force(true);
+			}
+
+			Launcher.atomicMove(tmpFile, HASH_CACHE_FILE);
+
+			log.debug("Saved {} entries to hash cache", entries.size());
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to save hash cache", ex);
+		}
+		finally
+		{
+			if (tmpFile != null)
+			{
+				// left behind if it couldn't be written or moved into place
+				tmpFile.delete();
+			}
+		}
+	}
+
+	private static boolean matches(Entry entry, BasicFileAttributes attributes)
+	{
+		return entry.hash != null
+			&& entry.size == attributes.size()
+			&& entry.mtime == attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS)
+			&& Objects.equals(entry.fileKey, fileKey(attributes));
+	}
+
+	private static Entry entry(BasicFileAttributes attributes, String hash)
+	{
+		var entry = new Entry();
+		entry.size = attributes.size();
+		entry.mtime = attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+		entry.fileKey = fileKey(attributes);
+		entry.hash = hash;
+		return entry;
+	}
+
+	private static String fileKey(BasicFileAttributes attributes)
+	{
+		// (dev=..,ino=..) on unix, and null on Windows
+		var fileKey = attributes.fileKey();
+		return fileKey != null ? fileKey.toString() : null;
+	}
+}
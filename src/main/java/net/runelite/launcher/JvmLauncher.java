@@ -35,6 +35,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.launcher.beans.Bootstrap;
 import org.slf4j.Logger;
@@ -69,7 +70,8 @@ class JvmLauncher
 		return javaPath.toAbsolutePath().toString();
 	}
 
-	static void launch(
+	@Nullable
+	static Process launch(
 		Bootstrap bootstrap,
 		List<File> classpath,
 		Collection<String> clientArgs,
@@ -95,7 +97,7 @@ class JvmLauncher
 		catch (FileNotFoundException ex)
 		{
 			logger.error("Unable to find java executable", ex);
-			return;
+			return null;
 		}
 
 		List<String> arguments = new ArrayList<>();
@@ -121,15 +123,22 @@ class JvmLauncher
 
 		ProcessBuilder builder = new ProcessBuilder(arguments.toArray(new String[0]));
 		builder.inheritIO();
-		Process process = builder.start();
+		return builder.start();
+	}
 
+	// in debug mode, keep the launcher running until the clients exit
+	static void waitFor(List<Process> processes)
+	{
 		if (log.isDebugEnabled())
 		{
 			SplashScreen.stop();
 
 			try
 			{
-				process.waitFor();
+				for (Process process : processes)
+				{
+					process.waitFor();
+				}
 			}
 			catch (InterruptedException e)
 			{
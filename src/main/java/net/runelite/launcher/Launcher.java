@@ -30,34 +30,54 @@ import com.google.archivepatcher.applier.FileByFileV1DeltaApplier;
 import com.google.archivepatcher.shared.DefaultDeflateCompatibilityWindow;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import com.google.common.base.Throwables;
 import com.google.common.collect.Streams;
 import com.google.common.hash.HashCode;
-import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
 import com.google.common.hash.HashingOutputStream;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.lang.management.ManagementFactory;
 import java.lang.management.RuntimeMXBean;
+import java.net.ConnectException;
 import java.net.URI;
 import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
 import java.security.InvalidKeyException;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.Signature;
 import java.security.SignatureException;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -70,11 +90,21 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntConsumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.zip.GZIPInputStream;
+import javax.annotation.Nullable;
 import javax.swing.SwingUtilities;
+import jdk.jfr.Recording;
 import joptsimple.OptionException;
 import joptsimple.OptionParser;
 import joptsimple.OptionSet;
@@ -92,12 +122,20 @@ public class Launcher
 	static final File LOGS_DIR = new File(RUNELITE_DIR, "logs");
 	static final File REPO_DIR = new File(RUNELITE_DIR, "repository2");
 	public static final File CRASH_FILES = new File(LOGS_DIR, "jvm_crash_pid_%p.log");
-	private static final String USER_AGENT = "RuneLite/" + LauncherProperties.getVersion();
+	static final String USER_AGENT = "RuneLite/" + LauncherProperties.getVersion();
+	private static final double START_PROGRESS = .15;
+	// so that an unreachable mirror or cache server is given up on and the next host tried
+	static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+	private static final long MIRROR_RETRY_DELAY = TimeUnit.MINUTES.toMillis(1);
+	static final String TMP_SUFFIX = ".tmp";
+	private static final ThreadLocal<ByteBuffer> HASH_BUFFER = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(1024 * 1024));
 	static final String LAUNCHER_EXECUTABLE_NAME_WIN = "RuneLite.exe";
 	static final String LAUNCHER_EXECUTABLE_NAME_OSX = "RuneLite";
 	static boolean nativesLoaded;
 
-	private static HttpClient httpClient;
+	static HttpClient httpClient;
+	// when the artifact mirror can next be tried, after it couldn't be connected to
+	private static volatile long mirrorRetryTime;
 
 	private static OptionSet parseArgs(String[] args)
 	{
@@ -108,6 +146,8 @@ public class Launcher
 		parser.accepts("postinstall", "Perform post-install tasks");
 		parser.accepts("debug", "Enable debug logging");
 		parser.accepts("nodiff", "Always download full artifacts instead of diffs");
+		parser.accepts("paranoid", "Rehash all artifacts instead of trusting previously verified hashes");
+		parser.accepts("nocds", "Disable the class data sharing archives of the launcher and client");
 		parser.accepts("insecure-skip-tls-verification", "Disable TLS certificate and hostname verification");
 		parser.accepts("scale", "Custom scale factor for Java 2D").withRequiredArg();
 		parser.accepts("noupdate", "Skips the launcher self-update");
@@ -124,6 +164,30 @@ public class Launcher
 		parser.accepts("mode", "Alias of hw-accel")
 			.withRequiredArg()
 			.ofType(HardwareAccelerationMode.class);
+		parser.accepts("download-threads", "Number of artifacts to download concurrently")
+			.withRequiredArg()
+			.ofType(Integer.class);
+		parser.accepts("download-segments", "Number of connections to download each large artifact over")
+			.withRequiredArg()
+			.ofType(Integer.class);
+		parser.accepts("artifact-store", "Directory of artifacts to share between users and installs")
+			.withRequiredArg();
+		parser.accepts("artifact-mirror", "URL of a launcher cache server to download artifacts from before the CDN")
+			.withRequiredArg();
+		parser.accepts("mirror", "Base URL of a mirror of the artifact host, which may be given more than once")
+			.withRequiredArg();
+		parser.accepts("cache-server", "Serve the verified artifacts to other launchers over HTTP instead of launching the client")
+			.withOptionalArg()
+			.ofType(Integer.class)
+			.defaultsTo(CacheServer.DEFAULT_PORT);
+		parser.accepts("instances", "Number of clients to launch (FORK or JVM launch mode only)")
+			.withRequiredArg()
+			.ofType(Integer.class);
+		parser.accepts("instance-delay", "Milliseconds to wait between launching each client")
+			.withRequiredArg()
+			.ofType(Integer.class);
+		parser.accepts("jfr", "Record the launch with Java Flight Recorder to logs/launcher.jfr");
+		parser.accepts("dry-run", "Download and verify the client, but do not launch it");
 
 		if (OS.getOs() == OS.OSType.MacOS)
 		{
@@ -177,6 +241,8 @@ public class Launcher
 
 	public static void main(String[] args)
 	{
+		StartupReport.stage("setup");
+
 		final OptionSet options = parseArgs(args);
 
 		if (options.has("configure"))
@@ -203,9 +269,13 @@ public class Launcher
 		// RTSS triggers off of the CreateWindow event, so this needs to be in place early, prior to splash screen
 		initDllBlacklist();
 
+		final Recording recording = options.has("jfr") ? LauncherEvents.startRecording() : null;
+		// the forked client process only launches the client, so it leaves the report of the launcher which forked it alone
+		final boolean forked = options.has("classpath");
+
 		try
 		{
-			if (options.has("classpath"))
+			if (forked)
 			{
 				TrustManagerUtil.setupTrustManager();
 
@@ -281,6 +351,7 @@ public class Launcher
 			// setup http client after the default SSLContext is set
 			httpClient = HttpClient.newBuilder()
 				.followRedirects(HttpClient.Redirect.ALWAYS)
+				.connectTimeout(CONNECT_TIMEOUT)
 				.build();
 
 			if (postInstall)
@@ -334,23 +405,44 @@ public class Launcher
 			}
 
 			SplashScreen.stage(.05, null, "Downloading bootstrap");
+			StartupReport.stage("bootstrap");
 			Bootstrap bootstrap;
+			// set if the bootstrap could not be downloaded and the cached bootstrap is being used instead
+			IOException offlineError = null;
 			try
 			{
 				bootstrap = getBootstrap();
 			}
-			catch (IOException | VerificationException | CertificateException | SignatureException | InvalidKeyException | NoSuchAlgorithmException ex)
+			catch (IOException ex)
+			{
+				// the client can still be launched with the last verified bootstrap if its artifacts are all downloaded
+				bootstrap = getCachedBootstrap();
+				if (bootstrap == null)
+				{
+					log.error("error fetching bootstrap", ex);
+					SwingUtilities.invokeLater(() -> FatalErrorDialog.showNetErrorWindow("downloading the bootstrap", ex));
+					return;
+				}
+
+				log.warn("error fetching bootstrap, launching offline with the cached bootstrap", ex);
+				offlineError = ex;
+			}
+			catch (VerificationException | CertificateException | SignatureException | InvalidKeyException | NoSuchAlgorithmException ex)
 			{
 				log.error("error fetching bootstrap", ex);
 				SwingUtilities.invokeLater(() -> FatalErrorDialog.showNetErrorWindow("downloading the bootstrap", ex));
 				return;
 			}
 
-			SplashScreen.stage(.07, null, "Checking for updates");
+			if (offlineError == null)
+			{
+				SplashScreen.stage(.07, null, "Checking for updates");
+				StartupReport.stage("update check");
 
-			Updater.update(bootstrap, settings, args);
+				Updater.update(bootstrap, settings, args);
+			}
 
-			SplashScreen.stage(.10, null, "Tidying the cache");
+			StartupReport.stage("prepare");
 
 			if (jvmOutdated(bootstrap))
 			{
@@ -391,67 +483,159 @@ public class Launcher
 				})
 				.collect(Collectors.toList());
 
-			// Clean out old artifacts from the repository
-			clean(artifacts);
+			// The launch only depends on the artifact list, so prepare it up front so that the client can be started as
+			// soon as the artifacts are verified
+			final Collection<String> clientArgs = getClientArgs(settings);
 
-			try
+			var classpath = artifacts.stream()
+				.map(dep -> new File(REPO_DIR, dep.getName()))
+				.collect(Collectors.toList());
+
+			// Only one launcher at a time updates the repository. Launchers started alongside it wait for it to finish, and
+			// then find the artifacts it downloaded already verified in the hash cache.
+			final ArtifactStore artifactStore = ArtifactStore.open(settings, REPO_DIR);
+
+			StartupReport.stage("lock");
+			try (RepositoryLock repositoryLock = RepositoryLock.lock())
 			{
-				download(artifacts, settings.isNodiffs());
+				SplashScreen.stage(.10, null, "Tidying the cache");
+				StartupReport.stage("clean");
+
+				// Clean out old artifacts from the repository
+				clean(REPO_DIR, artifacts);
+				if (artifactStore != null)
+				{
+					artifactStore.clean(artifacts);
+				}
+
+				StartupReport.stage("download");
+				final HashCache hashCache = HashCache.load(settings.isParanoid());
+
+				if (offlineError == null)
+				{
+					try
+					{
+						download(REPO_DIR, artifacts, MirrorList.of(settings, bootstrap), settings, hashCache, artifactStore);
+					}
+					catch (IOException ex)
+					{
+						log.error("unable to download artifacts", ex);
+						SwingUtilities.invokeLater(() -> FatalErrorDialog.showNetErrorWindow("downloading the client", ex));
+						return;
+					}
+				}
+
+				SplashScreen.stage(.80, null, "Verifying");
+				StartupReport.stage("verify");
+				try
+				{
+					verifyJarHashes(REPO_DIR, artifacts, hashCache);
+				}
+				catch (VerificationException ex)
+				{
+					log.error("Unable to verify artifacts", ex);
+					if (offlineError != null)
+					{
+						// artifacts are missing or outdated and can't be downloaded, so report why the bootstrap couldn't be
+						final IOException netError = offlineError;
+						SwingUtilities.invokeLater(() -> FatalErrorDialog.showNetErrorWindow("downloading the bootstrap", netError));
+					}
+					else
+					{
+						SwingUtilities.invokeLater(() -> FatalErrorDialog.showNetErrorWindow("verifying downloaded files", ex));
+					}
+					return;
+				}
+
+				hashCache.save();
+				// the archives are keyed by the jars, so this waits until they are verified
+				CdsArchive.clean(artifacts);
 			}
-			catch (IOException ex)
+
+			if (options.has("cache-server"))
 			{
-				log.error("unable to download artifacts", ex);
-				SwingUtilities.invokeLater(() -> FatalErrorDialog.showNetErrorWindow("downloading the client", ex));
+				SplashScreen.stop();
+				CacheServer.serve(settings, (Integer) options.valueOf("cache-server"), artifacts);
 				return;
 			}
 
-			SplashScreen.stage(.80, null, "Verifying");
-			try
-			{
-				verifyJarHashes(artifacts);
-			}
-			catch (VerificationException ex)
+			if (options.has("dry-run"))
 			{
-				log.error("Unable to verify artifacts", ex);
-				SwingUtilities.invokeLater(() -> FatalErrorDialog.showNetErrorWindow("verifying downloaded files", ex));
+				log.info("Dry run, not launching the client");
 				return;
 			}
 
-			final Collection<String> clientArgs = getClientArgs(settings);
 			SplashScreen.stage(.90, "Starting the client", "");
-
-			var classpath = artifacts.stream()
-				.map(dep -> new File(REPO_DIR, dep.getName()))
-				.collect(Collectors.toList());
+			StartupReport.stage("launch");
 
 			List<String> jvmParams = new ArrayList<>();
 			// Set hs_err_pid location. This is a jvm param and can't be set at runtime.
 			log.debug("Setting JVM crash log location to {}", CRASH_FILES);
 			jvmParams.add("-XX:ErrorFile=" + CRASH_FILES.getAbsolutePath());
+			if (!settings.nocds)
+			{
+				// Share the client classes between launches (FORK or JVM launch mode only)
+				jvmParams.addAll(CdsArchive.jvmArgs(artifacts));
+			}
 			// Add VM args from cli/env
 			jvmParams.addAll(getJvmArgs(settings));
+			// Only the first instance creates the CDS archive, so that they don't all write it at once
+			final List<String> instanceJvmParams = jvmParams.stream()
+				.filter(param -> !param.startsWith("-XX:ArchiveClassesAtExit="))
+				.collect(Collectors.toList());
+			final int instances = Math.max(1, settings.instances);
 
-			if (settings.launchMode == LaunchMode.REFLECT)
-			{
-				log.debug("Using launch mode: REFLECT");
-				ReflectionLauncher.launch(classpath, clientArgs);
-			}
-			else if (settings.launchMode == LaunchMode.FORK || (settings.launchMode == LaunchMode.AUTO && ForkLauncher.canForkLaunch()))
-			{
-				log.debug("Using launch mode: FORK");
-				ForkLauncher.launch(bootstrap, classpath, clientArgs, jvmProps, jvmParams);
-			}
-			else
+			final LauncherEvents.Launch launchEvent = new LauncherEvents.Launch();
+			launchEvent.begin();
+			try
 			{
-				if (System.getenv("APPIMAGE") != null)
+				if (settings.launchMode == LaunchMode.REFLECT)
 				{
-					// java.home is in the appimage, so we can never use the jvm launcher
-					throw new RuntimeException("JVM launcher is not supported from the appimage");
+					log.debug("Using launch mode: REFLECT");
+					launchEvent.mode = LaunchMode.REFLECT.name();
+					if (instances > 1)
+					{
+						log.warn("Launch mode REFLECT can only launch one instance");
+					}
+					ReflectionLauncher.launch(classpath, clientArgs);
+				}
+				else if (settings.launchMode == LaunchMode.FORK || (settings.launchMode == LaunchMode.AUTO && ForkLauncher.canForkLaunch()))
+				{
+					log.debug("Using launch mode: FORK");
+					launchEvent.mode = LaunchMode.FORK.name();
+					for (int instance = 0; instance < instances; ++instance)
+					{
+						staggerInstance(instance, instances, settings.instanceDelay);
+						ForkLauncher.launch(bootstrap, classpath, clientArgs, jvmProps, instance == 0 ? jvmParams : instanceJvmParams);
+					}
 				}
+				else
+				{
+					if (System.getenv("APPIMAGE") != null)
+					{
+						// java.home is in the appimage, so we can never use the jvm launcher
+						throw new RuntimeException("JVM launcher is not supported from the appimage");
+					}
 
-				// launch mode JVM or AUTO outside of packr
-				log.debug("Using launch mode: JVM");
-				JvmLauncher.launch(bootstrap, classpath, clientArgs, jvmProps, jvmParams);
+					// launch mode JVM or AUTO outside of packr
+					log.debug("Using launch mode: JVM");
+					launchEvent.mode = LaunchMode.JVM.name();
+					List<Process> processes = new ArrayList<>(instances);
+					for (int instance = 0; instance < instances; ++instance)
+					{
+						staggerInstance(instance, instances, settings.instanceDelay);
+						Process process = JvmLauncher.launch(bootstrap, classpath, clientArgs, jvmProps, instance == 0 ? jvmParams : instanceJvmParams);
+						if (process != null)
+						{
+							processes.add(process);
+						}
+					}
+					JvmLauncher.waitFor(processes);
+				}
+			}
+			finally
+			{
+				launchEvent.commit();
 			}
 		}
 		catch (Exception e)
@@ -473,6 +657,14 @@ public class Launcher
 		finally
 		{
 			SplashScreen.stop();
+			if (!postInstall && !forked)
+			{
+				StartupReport.write();
+			}
+			if (recording != null)
+			{
+				LauncherEvents.stopRecording(recording);
+			}
 		}
 	}
 
@@ -484,58 +676,188 @@ public class Launcher
 		}
 	}
 
-	private static Bootstrap getBootstrap() throws IOException, CertificateException, NoSuchAlgorithmException, InvalidKeyException, SignatureException, VerificationException
+	static Bootstrap getBootstrap() throws IOException, CertificateException, NoSuchAlgorithmException, InvalidKeyException, SignatureException, VerificationException
 	{
-		HttpRequest bootstrapReq = HttpRequest.newBuilder()
-			.uri(URI.create(LauncherProperties.getBootstrap()))
+		final LauncherEvents.BootstrapFetch event = new LauncherEvents.BootstrapFetch();
+		event.url = LauncherProperties.getBootstrap();
+		event.begin();
+		try
+		{
+			Bootstrap bootstrap = getBootstrap(BootstrapCache.load());
+			event.success = true;
+			return bootstrap;
+		}
+		finally
+		{
+			event.commit();
+		}
+	}
+
+	private static Bootstrap getBootstrap(BootstrapCache cache) throws IOException, CertificateException, NoSuchAlgorithmException, InvalidKeyException, SignatureException, VerificationException
+	{
+		final String bootstrapUrl = LauncherProperties.getBootstrap();
+		final String bootstrapSigUrl = LauncherProperties.getBootstrapSig();
+		final BootstrapCache.Resource cachedBootstrap = BootstrapCache.cached(cache.bootstrap, bootstrapUrl);
+		final BootstrapCache.Resource cachedBootstrapSig = BootstrapCache.cached(cache.signature, bootstrapSigUrl);
+
+		HttpRequest.Builder bootstrapReq = HttpRequest.newBuilder()
+			.uri(URI.create(bootstrapUrl))
 			.header("User-Agent", USER_AGENT)
 			.header("Accept-Encoding", "gzip")
-			.GET()
-			.build();
+			.GET();
+		BootstrapCache.addValidators(bootstrapReq, cachedBootstrap);
 
-		HttpRequest bootstrapSigReq = HttpRequest.newBuilder()
-			.uri(URI.create(LauncherProperties.getBootstrapSig()))
+		HttpRequest.Builder bootstrapSigReq = HttpRequest.newBuilder()
+			.uri(URI.create(bootstrapSigUrl))
 			.header("User-Agent", USER_AGENT)
-			.GET()
-			.build();
+			.GET();
+		BootstrapCache.addValidators(bootstrapSigReq, cachedBootstrapSig);
 
-		HttpResponse<byte[]> bootstrapResp, bootstrapSigResp;
+		// request both concurrently to save a round trip
+		final CompletableFuture<HttpResponse<InputStream>> bootstrapFuture = httpClient.sendAsync(bootstrapReq.build(), GzipBodyHandler.ofInputStream());
+		final CompletableFuture<HttpResponse<byte[]>> bootstrapSigFuture = httpClient.sendAsync(bootstrapSigReq.build(), HttpResponse.BodyHandlers.ofByteArray());
 
 		try
 		{
-			bootstrapResp = httpClient.send(bootstrapReq, GzipBodyHandler.ofByteArray());
-			bootstrapSigResp = httpClient.send(bootstrapSigReq, HttpResponse.BodyHandlers.ofByteArray());
+			final HttpResponse<InputStream> bootstrapResp = await(bootstrapFuture);
+			final boolean bootstrapNotModified = cachedBootstrap != null && bootstrapResp.statusCode() == 304;
+
+			// The signature is updated with the bootstrap as it is received, while the signature itself is
+			// still being downloaded. The cached bootstrap is verified too, since the cache is only as
+			// trustworthy as the filesystem and verifying is cheap compared to the requests.
+			final Signature s = bootstrapVerifier();
+			final BootstrapBuffer bytes = new BootstrapBuffer();
+			try (InputStream in = bootstrapResp.body())
+			{
+				if (bootstrapNotModified)
+				{
+					bytes.writeBytes(cachedBootstrap.bytes());
+					s.update(bytes.buf(), 0, bytes.size());
+				}
+				else
+				{
+					int i;
+					byte[] buffer = new byte[8192];
+					while ((i = in.read(buffer)) != -1)
+					{
+						bytes.write(buffer, 0, i);
+						StartupReport.bytesDownloaded.addAndGet(i);
+						if (bootstrapResp.statusCode() == 200)
+						{
+							s.update(buffer, 0, i);
+						}
+					}
+				}
+			}
+
+			if (!bootstrapNotModified && bootstrapResp.statusCode() != 200)
+			{
+				throw new IOException("Unable to download bootstrap (status code " + bootstrapResp.statusCode() + "): " + bytes.toString());
+			}
+
+			final HttpResponse<byte[]> bootstrapSigResp = await(bootstrapSigFuture);
+			final boolean bootstrapSigNotModified = cachedBootstrapSig != null && bootstrapSigResp.statusCode() == 304;
+
+			if (!bootstrapSigNotModified && bootstrapSigResp.statusCode() != 200)
+			{
+				throw new IOException("Unable to download bootstrap signature (status code " + bootstrapSigResp.statusCode() + "): " + new String(bootstrapSigResp.body()));
+			}
+
+			final byte[] signature = bootstrapSigNotModified ? cachedBootstrapSig.bytes() : bootstrapSigResp.body();
+			StartupReport.bytesDownloaded.addAndGet(bootstrapSigResp.body().length);
+
+			if (!s.verify(signature))
+			{
+				if (bootstrapNotModified || bootstrapSigNotModified)
+				{
+					// the bootstrap and signature can be from different versions if the bootstrap changed
+					// between the requests, so try again without the cache
+					log.warn("Unable to verify bootstrap signature using cached bootstrap, retrying without cache");
+					return getBootstrap(new BootstrapCache());
+				}
+
+				throw new VerificationException("Unable to verify bootstrap signature");
+			}
+
+			if (bootstrapNotModified && bootstrapSigNotModified)
+			{
+				log.debug("Bootstrap is not modified, using cached copy");
+			}
+			else
+			{
+				cache.bootstrap = bootstrapNotModified ? cachedBootstrap : BootstrapCache.resource(bootstrapUrl, bootstrapResp, bytes.toByteArray());
+				cache.signature = bootstrapSigNotModified ? cachedBootstrapSig : BootstrapCache.resource(bootstrapSigUrl, bootstrapSigResp, signature);
+				cache.save();
+			}
+
+			return parseBootstrap(new ByteArrayInputStream(bytes.buf(), 0, bytes.size()));
+		}
+		finally
+		{
+			// the signature isn't needed if the bootstrap failed, and this does nothing if it was already received
+			bootstrapSigFuture.cancel(true);
 		}
-		catch (InterruptedException ex)
+	}
+
+	// A growable buffer for the bootstrap, which can be read from without copying it
+	private static class BootstrapBuffer extends ByteArrayOutputStream
+	{
+		BootstrapBuffer()
 		{
-			throw new IOException(ex);
+			super(64 * 1024);
 		}
 
-		if (bootstrapResp.statusCode() != 200)
+		byte[] buf()
 		{
-			throw new IOException("Unable to download bootstrap (status code " + bootstrapResp.statusCode() + "): " + new String(bootstrapResp.body()));
+			return buf;
 		}
+	}
 
-		if (bootstrapSigResp.statusCode() != 200)
+	// the last verified bootstrap, or null if there isn't one
+	@Nullable
+	private static Bootstrap getCachedBootstrap()
+	{
+		final BootstrapCache cache = BootstrapCache.load();
+		final BootstrapCache.Resource cachedBootstrap = BootstrapCache.cached(cache.bootstrap, LauncherProperties.getBootstrap());
+		final BootstrapCache.Resource cachedBootstrapSig = BootstrapCache.cached(cache.signature, LauncherProperties.getBootstrapSig());
+		if (cachedBootstrap == null || cachedBootstrapSig == null)
 		{
-			throw new IOException("Unable to download bootstrap signature (status code " + bootstrapSigResp.statusCode() + "): " + new String(bootstrapSigResp.body()));
+			log.debug("No cached bootstrap");
+			return null;
 		}
 
-		final byte[] bytes = bootstrapResp.body();
-		final byte[] signature = bootstrapSigResp.body();
+		try
+		{
+			final byte[] bytes = cachedBootstrap.bytes();
+			final Signature s = bootstrapVerifier();
+			s.update(bytes);
+			if (!s.verify(cachedBootstrapSig.bytes()))
+			{
+				log.warn("Unable to verify cached bootstrap signature");
+				return null;
+			}
+
+			return parseBootstrap(new ByteArrayInputStream(bytes));
+		}
+		catch (GeneralSecurityException | IllegalArgumentException | JsonParseException ex)
+		{
+			log.warn("unable to load cached bootstrap", ex);
+			return null;
+		}
+	}
 
+	private static Signature bootstrapVerifier() throws CertificateException, NoSuchAlgorithmException, InvalidKeyException
+	{
 		Certificate certificate = getCertificate();
 		Signature s = Signature.getInstance("SHA256withRSA");
 		s.initVerify(certificate);
-		s.update(bytes);
-
-		if (!s.verify(signature))
-		{
-			throw new VerificationException("Unable to verify bootstrap signature");
-		}
+		return s;
+	}
 
+	static Bootstrap parseBootstrap(InputStream in)
+	{
 		Gson g = new Gson();
-		return g.fromJson(new InputStreamReader(new ByteArrayInputStream(bytes)), Bootstrap.class);
+		return g.fromJson(new JsonReader(new InputStreamReader(in, StandardCharsets.UTF_8)), Bootstrap.class);
 	}
 
 	private static boolean jvmOutdated(Bootstrap bootstrap)
@@ -580,6 +902,23 @@ public class Launcher
 		return false;
 	}
 
+	// Spread the launches of multiple clients out, so that they don't all load at once
+	private static void staggerInstance(int instance, int instances, int delay) throws InterruptedException
+	{
+		if (instances == 1)
+		{
+			return;
+		}
+
+		if (instance > 0 && delay > 0)
+		{
+			Thread.sleep(delay);
+		}
+
+		log.info("Launching instance {} of {}", instance + 1, instances);
+		SplashScreen.stage(.90 + .10 * instance / instances, null, "Client " + (instance + 1) + " of " + instances);
+	}
+
 	private static Collection<String> getClientArgs(LauncherSettings settings)
 	{
 		final var args = new ArrayList<>(settings.clientArguments);
@@ -627,148 +966,365 @@ public class Launcher
 		return args;
 	}
 
-	private static void download(List<Artifact> artifacts, boolean nodiff) throws IOException
+	static void download(File repoDir, List<Artifact> artifacts, MirrorList mirrors, LauncherSettings settings, HashCache hashCache,
+		@Nullable ArtifactStore artifactStore) throws IOException
 	{
-		List<Artifact> toDownload = new ArrayList<>(artifacts.size());
-		Map<Artifact, Diff> diffs = new HashMap<>();
-		int totalDownloadBytes = 0;
+		boolean isNodiff = settings.isNodiffs();
 		final boolean isCompatible = new DefaultDeflateCompatibilityWindow().isCompatible();
 
-		if (!isCompatible && !nodiff)
+		if (!isCompatible && !isNodiff)
 		{
 			log.debug("System zlib is not compatible with archive-patcher; not using diffs");
-			nodiff = true;
+			isNodiff = true;
 		}
 
-		for (Artifact artifact : artifacts)
+		if (artifacts.isEmpty())
 		{
-			File dest = new File(REPO_DIR, artifact.getName());
+			return;
+		}
 
-			String hash;
-			try
+		final boolean nodiff = isNodiff;
+		final AtomicBoolean downloading = new AtomicBoolean();
+		final AtomicInteger downloaded = new AtomicInteger();
+		// grows as artifacts are found to be out of date
+		final AtomicInteger totalBytes = new AtomicInteger();
+		final int threads = Math.max(1, Math.min(settings.getDownloadThreads(), artifacts.size()));
+
+		final ExecutorService hashExecutor = Executors.newFixedThreadPool(Math.min(artifacts.size(), Runtime.getRuntime().availableProcessors()),
+			new ThreadFactoryBuilder()
+				.setNameFormat("hash-%d")
+				.setDaemon(true)
+				.build());
+		final ExecutorService downloadExecutor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+			.setNameFormat("download-%d")
+			.setDaemon(true)
+			.build());
+		try
+		{
+			// Hash the existing artifacts to find which are out of date, and start downloading each as soon as it is
+			// found to be, instead of waiting for the rest to be hashed first
+			List<Future<Future<?>>> checks = new ArrayList<>(artifacts.size());
+			for (Artifact artifact : artifacts)
 			{
-				hash = hash(dest);
+				checks.add(hashExecutor.submit(() ->
+				{
+					if (isCurrent(repoDir, artifact, hashCache))
+					{
+						log.debug("Hash for {} up to date", artifact.getName());
+						return null;
+					}
+
+					if (artifactStore != null && artifactStore.fetch(artifact, new File(repoDir, artifact.getName()), hashCache))
+					{
+						return null;
+					}
+
+					final Diff diff = nodiff ? null : findDiff(repoDir, artifact, hashCache);
+					final int downloadSize = diff != null ? diff.getSize() : artifact.getSize();
+					totalBytes.addAndGet(downloadSize);
+					log.debug("Downloading {} ({} bytes)", diff != null ? diff.getName() : artifact.getName(), downloadSize);
+
+					if (downloading.compareAndSet(false, true))
+					{
+						SplashScreen.stage(START_PROGRESS, "Downloading", "");
+					}
+
+					return downloadExecutor.submit(() ->
+					{
+						boolean verified = downloadArtifact(repoDir, artifact, diff, mirrors, settings.artifactMirror, settings.getDownloadSegments(), hashCache, downloaded, totalBytes);
+						// only verified artifacts are shared with the other repositories
+						if (verified && artifactStore != null)
+						{
+							artifactStore.add(artifact, new File(repoDir, artifact.getName()));
+						}
+						return null;
+					});
+				}));
 			}
-			catch (FileNotFoundException ex)
+			// let the submitted tasks finish and then let the threads exit
+			hashExecutor.shutdown();
+
+			List<Future<?>> downloads = new ArrayList<>(artifacts.size());
+			for (Future<Future<?>> check : checks)
 			{
-				hash = null;
+				Future<?> download = await(check);
+				if (download != null)
+				{
+					downloads.add(download);
+				}
 			}
-			catch (IOException ex)
+
+			for (Future<?> download : downloads)
 			{
-				dest.delete();
-				hash = null;
+				await(download);
 			}
 
-			if (Objects.equals(hash, artifact.getHash()))
+			if (!downloads.isEmpty())
 			{
-				log.debug("Hash for {} up to date", artifact.getName());
-				continue;
+				log.debug("Downloaded {} artifacts ({} bytes) using {} threads", downloads.size(), totalBytes.get(), threads);
 			}
+		}
+		finally
+		{
+			// abort any downloads still in flight if one of them failed
+			hashExecutor.shutdownNow();
+			downloadExecutor.shutdownNow();
+		}
+	}
 
-			int downloadSize = artifact.getSize();
+	private static boolean isCurrent(File repoDir, Artifact artifact, HashCache hashCache)
+	{
+		File dest = new File(repoDir, artifact.getName());
 
-			// See if there is a diff available
-			if (!nodiff && artifact.getDiffs() != null)
-			{
-				for (Diff diff : artifact.getDiffs())
-				{
-					File old = new File(REPO_DIR, diff.getFrom());
+		String hash;
+		try
+		{
+			hash = hashCache.hash(dest);
+		}
+		catch (FileNotFoundException ex)
+		{
+			hash = null;
+		}
+		catch (IOException ex)
+		{
+			dest.delete();
+			hash = null;
+		}
 
-					String oldhash;
-					try
-					{
-						oldhash = hash(old);
-					}
-					catch (IOException ex)
-					{
-						continue;
-					}
+		return Objects.equals(hash, artifact.getHash());
+	}
 
-					// Check if old file is valid
-					if (diff.getFromHash().equals(oldhash))
-					{
-						diffs.put(artifact, diff);
-						downloadSize = diff.getSize();
-					}
-				}
+	// Find a diff which can be applied to an old file in the repository
+	@Nullable
+	private static Diff findDiff(File repoDir, Artifact artifact, HashCache hashCache)
+	{
+		if (artifact.getDiffs() == null)
+		{
+			return null;
+		}
+
+		Diff found = null;
+		for (Diff diff : artifact.getDiffs())
+		{
+			File old = new File(repoDir, diff.getFrom());
+
+			String oldhash;
+			try
+			{
+				oldhash = hashCache.hash(old);
+			}
+			catch (IOException ex)
+			{
+				continue;
 			}
 
-			toDownload.add(artifact);
-			totalDownloadBytes += downloadSize;
+			// Check if old file is valid
+			if (diff.getFromHash().equals(oldhash))
+			{
+				found = diff;
+			}
 		}
+		return found;
+	}
 
-		final double START_PROGRESS = .15;
-		int downloaded = 0;
-		SplashScreen.stage(START_PROGRESS, "Downloading", "");
+	// Download an artifact into the repository, returning if it was verified
+	private static boolean downloadArtifact(File repoDir, Artifact artifact, @Nullable Diff diff, MirrorList mirrors,
+		@Nullable String mirror, int segments, HashCache hashCache, AtomicInteger downloaded, AtomicInteger totalBytes) throws IOException
+	{
+		File dest = new File(repoDir, artifact.getName());
 
-		for (Artifact artifact : toDownload)
+		// The mirror is on the local network, so the whole artifact is fetched from it in place of the diff
+		if (mirror != null && System.currentTimeMillis() >= mirrorRetryTime)
 		{
-			File dest = new File(REPO_DIR, artifact.getName());
-			final int total = downloaded;
-
-			// Check if there is a diff we can download instead
-			Diff diff = diffs.get(artifact);
-			if (diff != null)
+			final int sizeDifference = diff != null ? artifact.getSize() - diff.getSize() : 0;
+			totalBytes.addAndGet(sizeDifference);
+			if (downloadFromMirror(repoDir, artifact, mirror, hashCache, downloaded, totalBytes))
 			{
-				log.debug("Downloading diff {}", diff.getName());
+				return true;
+			}
+			// Fall back to the CDN
+			totalBytes.addAndGet(-sizeDifference);
+		}
 
-				try
+		// Check if there is a diff we can download instead
+		if (diff != null)
+		{
+			// the diff falls back to the full artifact, which is tried from each mirror in turn
+			final List<String> diffUrls = mirrors.urls(diff.getPath());
+			final String diffUrl = diffUrls.get(0);
+			log.debug("Downloading diff {} from {}", diff.getName(), diffUrl);
+
+			final int[] counted = new int[1];
+			// the patched artifact is written to a temporary file which is moved into place once it is verified
+			final File tmp = new File(dest.getPath() + TMP_SUFFIX);
+			final LauncherEvents.ArtifactDownload diffEvent = new LauncherEvents.ArtifactDownload();
+			diffEvent.artifact = artifact.getName();
+			diffEvent.diff = true;
+			diffEvent.begin();
+			try
+			{
+				File old = new File(repoDir, diff.getFrom());
+				HashCode hash;
+				try (FileOutputStream fos = new FileOutputStream(tmp);
+					HashingOutputStream fout = new HashingOutputStream(Hashing.sha256(), fos))
 				{
-					ByteArrayOutputStream out = new ByteArrayOutputStream();
-					final int totalBytes = totalDownloadBytes;
-					download(diff.getPath(), diff.getHash(), (completed) ->
-						SplashScreen.stage(START_PROGRESS, .80, null, diff.getName(), total + completed, totalBytes, true),
-						out);
-					downloaded += diff.getSize();
-
-					File old = new File(REPO_DIR, diff.getFrom());
-					HashCode hash;
-					try (InputStream patchStream = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()));
-						HashingOutputStream fout = new HashingOutputStream(Hashing.sha256(), Files.newOutputStream(dest.toPath())))
-					{
-						new FileByFileV1DeltaApplier().applyDelta(old, patchStream, fout);
-						hash = fout.hash();
-					}
-
-					if (artifact.getHash().equals(hash.toString()))
+					// the patch is applied as it is downloaded, and its hash is checked once it has been fully read
+					final IntConsumer progress = progress(diff.getName(), counted, downloaded, totalBytes);
+					download(diffUrl, diff.getHash(), diffUrls.size() > 1 ? MirrorList.throughputMonitor(diffUrl, progress) : progress, (in) ->
 					{
-						log.debug("Patching successful for {}", artifact.getName());
-						continue;
-					}
-
-					log.debug("Patched artifact hash mismatches! {}: got {} expected {}", artifact.getName(), hash.toString(), artifact.getHash());
+						final LauncherEvents.Patch patchEvent = new LauncherEvents.Patch();
+						patchEvent.artifact = artifact.getName();
+						patchEvent.from = diff.getFrom();
+						patchEvent.begin();
+						try (InputStream patchStream = new GZIPInputStream(in))
+						{
+							new FileByFileV1DeltaApplier().applyDelta(old, patchStream, fout);
+						}
+						patchEvent.commit();
+					});
+					fout.flush();
+					fos.getChannel().force(true);
+					hash = fout.hash();
 				}
-				catch (IOException | VerificationException e)
+
+				if (artifact.getHash().equals(hash.toString()))
 				{
-					log.warn("unable to download patch {}", diff.getName(), e);
-					// Fall through and try downloading the full artifact
+					log.debug("Patching successful for {}", artifact.getName());
+					atomicMove(tmp, dest);
+					hashCache.record(dest, artifact.getHash());
+					diffEvent.success = true;
+					return true;
 				}
 
-				// Adjust the download size for the difference
-				totalDownloadBytes -= diff.getSize();
-				totalDownloadBytes += artifact.getSize();
+				log.debug("Patched artifact hash mismatches! {}: got {} expected {}", artifact.getName(), hash.toString(), artifact.getHash());
 			}
+			catch (IOException | RuntimeException | VerificationException e)
+			{
+				// the patch is applied before its hash is checked, so a corrupt patch can make the applier throw anything
+				log.warn("unable to download patch {}", diff.getName(), e);
+				mirrors.failed(diffUrl);
+				// Fall through and try downloading the full artifact
+			}
+			finally
+			{
+				tmp.delete();
+				diffEvent.bytes = counted[0];
+				diffEvent.commit();
+			}
+
+			// Discount the patch progress and adjust the download size for the difference
+			downloaded.addAndGet(-counted[0]);
+			totalBytes.addAndGet(artifact.getSize() - diff.getSize());
+		}
 
-			log.debug("Downloading {}", artifact.getName());
+		final List<String> urls = mirrors.urls(artifact.getPath());
+		for (int i = 0; i < urls.size(); ++i)
+		{
+			final String url = urls.get(i);
+			final boolean last = i == urls.size() - 1;
+			log.debug("Downloading {} from {}", artifact.getName(), url);
+
+			final int[] counted = new int[1];
+			final LauncherEvents.ArtifactDownload event = new LauncherEvents.ArtifactDownload();
+			event.artifact = artifact.getName();
+			event.begin();
+			try
+			{
+				// there is nowhere else to go if the last host is slow, so it is left to finish
+				final IntConsumer progress = progress(artifact.getName(), counted, downloaded, totalBytes);
+				download(url, artifact.getHash(), artifact.getSize(), segments,
+					last ? progress : MirrorList.throughputMonitor(url, progress), dest);
+
+				// the download was hashed as it was written, so there is no need to hash it again during verification
+				hashCache.record(dest, artifact.getHash());
+				event.success = true;
+				return true;
+			}
+			catch (IOException e)
+			{
+				if (last)
+				{
+					throw e;
+				}
 
-			try (OutputStream fout = Files.newOutputStream(dest.toPath()))
+				log.warn("unable to download {} from {}", artifact.getName(), url, e);
+				mirrors.failed(url);
+			}
+			catch (UncheckedIOException | VerificationException e)
 			{
-				final int totalBytes = totalDownloadBytes;
-				download(artifact.getPath(), artifact.getHash(), (completed) ->
-					SplashScreen.stage(START_PROGRESS, .80, null, artifact.getName(), total + completed, totalBytes, true),
-					fout);
-				downloaded += artifact.getSize();
+				// the download was too slow, or the host served the wrong file
+				log.warn("unable to download {} from {}", artifact.getName(), url, e);
+				mirrors.failed(url);
 			}
-			catch (VerificationException e)
+			finally
 			{
-				log.warn("unable to verify jar {}", artifact.getName(), e);
+				event.bytes = counted[0];
+				event.commit();
 			}
+
+			// Discount the progress of the failed download
+			downloaded.addAndGet(-counted[0]);
 		}
+		return false;
 	}
 
-	private static void clean(List<Artifact> artifacts)
+	private static boolean downloadFromMirror(File repoDir, Artifact artifact, String mirror, HashCache hashCache,
+		AtomicInteger downloaded, AtomicInteger totalBytes)
 	{
-		File[] existingFiles = REPO_DIR.listFiles();
+		File dest = new File(repoDir, artifact.getName());
+		// artifacts are served by their hash, which is checked against the bootstrap as they are downloaded
+		String path = (mirror.endsWith("/") ? mirror : mirror + "/") + artifact.getHash();
+
+		log.debug("Downloading {} from mirror {}", artifact.getName(), path);
+
+		final int[] counted = new int[1];
+		final LauncherEvents.ArtifactDownload event = new LauncherEvents.ArtifactDownload();
+		event.artifact = artifact.getName();
+		event.mirror = true;
+		event.begin();
+		try
+		{
+			download(path, artifact.getHash(), artifact.getSize(), 1, progress(artifact.getName(), counted, downloaded, totalBytes), dest);
+			hashCache.record(dest, artifact.getHash());
+			event.success = true;
+			return true;
+		}
+		catch (ConnectException | HttpConnectTimeoutException ex)
+		{
+			// don't wait on connecting to it again for the rest of the artifacts, but do try it again later, since
+			// the cache server keeps running and the mirror may only be down briefly
+			log.warn("unable to connect to mirror {}, downloading from the CDN", mirror, ex);
+			mirrorRetryTime = System.currentTimeMillis() + MIRROR_RETRY_DELAY;
+		}
+		catch (IOException | VerificationException ex)
+		{
+			log.warn("unable to download {} from mirror, downloading from the CDN", artifact.getName(), ex);
+		}
+		finally
+		{
+			event.bytes = counted[0];
+			event.commit();
+		}
+
+		// Discount the progress of the failed download
+		downloaded.addAndGet(-counted[0]);
+		return false;
+	}
+
+	// Translates the per-request progress of a single download into progress of the whole download stage
+	private static IntConsumer progress(String name, int[] counted, AtomicInteger downloaded, AtomicInteger totalBytes)
+	{
+		return (completed) ->
+		{
+			int done = downloaded.addAndGet(completed - counted[0]);
+			counted[0] = completed;
+			SplashScreen.stage(START_PROGRESS, .80, null, name, done, totalBytes.get(), true);
+		};
+	}
+
+	static void clean(File repoDir, List<Artifact> artifacts)
+	{
+		File[] existingFiles = repoDir.listFiles();
 
 		if (existingFiles == null)
 		{
@@ -779,6 +1335,9 @@ public class Launcher
 		for (Artifact artifact : artifacts)
 		{
 			artifactNames.add(artifact.getName());
+			// Keep partial downloads so they can be resumed
+			artifactNames.add(artifact.getName() + PartialDownload.PART_SUFFIX);
+			artifactNames.add(artifact.getName() + PartialDownload.STATE_SUFFIX);
 			if (artifact.getDiffs() != null)
 			{
 				// Keep around the old files which diffs are from
@@ -805,15 +1364,18 @@ public class Launcher
 		}
 	}
 
-	private static void verifyJarHashes(List<Artifact> artifacts) throws VerificationException
+	static void verifyJarHashes(File repoDir, List<Artifact> artifacts, HashCache hashCache) throws VerificationException
 	{
+		Map<File, Future<String>> hashes = hashAll(artifacts.stream()
+			.map(artifact -> new File(repoDir, artifact.getName()))
+			.collect(Collectors.toList()), hashCache);
 		for (Artifact artifact : artifacts)
 		{
 			String expectedHash = artifact.getHash();
 			String fileHash;
 			try
 			{
-				fileHash = hash(new File(REPO_DIR, artifact.getName()));
+				fileHash = await(hashes.get(new File(repoDir, artifact.getName())));
 			}
 			catch (IOException e)
 			{
@@ -830,15 +1392,130 @@ public class Launcher
 		}
 	}
 
-	private static String hash(File file) throws IOException
+	// Hash files concurrently, returning a future for the hash of each file
+	private static Map<File, Future<String>> hashAll(Collection<File> files, HashCache hashCache)
+	{
+		Map<File, Future<String>> hashes = new HashMap<>();
+		if (files.isEmpty())
+		{
+			return hashes;
+		}
+
+		final int threads = Math.min(files.size(), Runtime.getRuntime().availableProcessors());
+		final ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+			.setNameFormat("hash-%d")
+			.setDaemon(true)
+			.build());
+		for (File file : files)
+		{
+			hashes.computeIfAbsent(file, f -> executor.submit(() -> hashCache.hash(f)));
+		}
+		// let the submitted tasks finish and then let the threads exit
+		executor.shutdown();
+		return hashes;
+	}
+
+	private static <T> T await(Future<T> future) throws IOException
+	{
+		try
+		{
+			return future.get();
+		}
+		catch (InterruptedException ex)
+		{
+			throw new IOException(ex);
+		}
+		catch (ExecutionException ex)
+		{
+			Throwable cause = ex.getCause();
+			if (cause instanceof UncheckedIOException)
+			{
+				// eg. from decoding a response body
+				cause = cause.getCause();
+			}
+			Throwables.propagateIfPossible(cause, IOException.class);
+			throw new RuntimeException(cause);
+		}
+	}
+
+	static String hash(File file) throws IOException
+	{
+		final LauncherEvents.Hash event = new LauncherEvents.Hash();
+		event.path = file.getPath();
+		event.begin();
+
+		final MessageDigest sha256 = sha256();
+		digest(file, sha256);
+
+		event.size = file.length();
+		event.commit();
+		return HashCode.fromBytes(sha256.digest()).toString();
+	}
+
+	// Move a fully written and synced file into place, replacing the destination. Artifacts are only ever
+	// moved into the repository this way once verified, so a file under its final name is always complete.
+	static void atomicMove(File source, File dest) throws IOException
+	{
+		try
+		{
+			Files.move(source.toPath(), dest.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException ex)
+		{
+			log.debug("atomic move not supported", ex);
+			Files.move(source.toPath(), dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	static MessageDigest sha256()
+	{
+		try
+		{
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException ex)
+		{
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	static void digest(File file, MessageDigest digest) throws IOException
 	{
-		HashFunction sha256 = Hashing.sha256();
-		return com.google.common.io.Files.asByteSource(file).hash(sha256).toString();
+		// read through a direct buffer to avoid copying the file through the heap
+		final ByteBuffer buffer = HASH_BUFFER.get();
+		buffer.clear();
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+		{
+			while (channel.read(buffer) != -1)
+			{
+				buffer.flip();
+				digest.update(buffer);
+				buffer.clear();
+			}
+		}
+		catch (NoSuchFileException ex)
+		{
+			throw new FileNotFoundException(file.getAbsolutePath());
+		}
 	}
 
 	private static Certificate getCertificate() throws CertificateException
 	{
 		CertificateFactory certFactory = CertificateFactory.getInstance("X.509");
+		String certificatePath = LauncherProperties.getBootstrapCertificate();
+		if (certificatePath != null)
+		{
+			log.warn("Using bootstrap certificate {}", certificatePath);
+			try (InputStream in = new FileInputStream(certificatePath))
+			{
+				return certFactory.generateCertificate(in);
+			}
+			catch (IOException ex)
+			{
+				throw new CertificateException("unable to read certificate " + certificatePath, ex);
+			}
+		}
+
 		Certificate certificate = certFactory.generateCertificate(Launcher.class.getResourceAsStream("runelite.crt"));
 		return certificate;
 	}
@@ -893,7 +1570,21 @@ public class Launcher
 		});
 	}
 
-	static void download(String path, String hash, IntConsumer progress, OutputStream out) throws IOException, VerificationException
+	// download to a file, over multiple connections if it is large enough to split into segments, otherwise
+	// resuming a previously interrupted download of it if possible
+	static void download(String path, String hash, long size, int segments, IntConsumer progress, File dest) throws IOException, VerificationException
+	{
+		SegmentedDownload.download(path, hash, size, segments, progress, dest);
+	}
+
+	@FunctionalInterface
+	interface StreamConsumer
+	{
+		void accept(InputStream in) throws IOException;
+	}
+
+	// Stream a resource to the consumer, verifying its hash after the consumer has finished with it
+	static void download(String path, String hash, IntConsumer progress, StreamConsumer consumer) throws IOException, VerificationException
 	{
 		HttpRequest request = HttpRequest.newBuilder()
 			.uri(URI.create(path))
@@ -913,24 +1604,63 @@ public class Launcher
 
 		if (response.statusCode() != 200)
 		{
+			response.body().close();
 			throw new IOException("Unable to download " + path + " (status code " + response.statusCode() + ")");
 		}
 
-		int downloaded = 0;
-		HashingOutputStream hout = new HashingOutputStream(Hashing.sha256(), out);
+		HashingInputStream hin;
 		try (InputStream in = response.body())
 		{
-			int i;
-			byte[] buffer = new byte[1024 * 1024];
-			while ((i = in.read(buffer)) != -1)
+			hin = new HashingInputStream(Hashing.sha256(), in);
+			InputStream progressStream = new FilterInputStream(hin)
 			{
-				hout.write(buffer, 0, i);
-				downloaded += i;
-				progress.accept(downloaded);
-			}
+				private int downloaded;
+
+				@Override
+				public int read() throws IOException
+				{
+					int b = super.read();
+					if (b != -1)
+					{
+						StartupReport.bytesDownloaded.incrementAndGet();
+						progress.accept(++downloaded);
+					}
+					return b;
+				}
+
+				@Override
+				public int read(byte[] b, int off, int len) throws IOException
+				{
+					int i = super.read(b, off, len);
+					if (i > 0)
+					{
+						downloaded += i;
+						StartupReport.bytesDownloaded.addAndGet(i);
+						progress.accept(downloaded);
+					}
+					return i;
+				}
+
+				@Override
+				public long skip(long n) throws IOException
+				{
+					// skipped bytes must still be hashed
+					return Math.max(0, read(new byte[(int) Math.min(n, 8192)]));
+				}
+
+				@Override
+				public void close()
+				{
+					// the response body is closed once the rest of it has been hashed
+				}
+			};
+
+			consumer.accept(progressStream);
+			// hash the remainder of the resource the consumer did not read, such as the gzip trailer
+			ByteStreams.exhaust(progressStream);
 		}
 
-		HashCode hashCode = hout.hash();
+		HashCode hashCode = hin.hash();
 		if (!hash.equals(hashCode.toString()))
 		{
 			throw new VerificationException("Unable to verify resource " + path + " - expected " + hash + " got " + hashCode.toString());
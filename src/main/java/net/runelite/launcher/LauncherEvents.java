@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.launcher;
+
+import java.io.File;
+import java.io.IOException;
+import java.text.ParseException;
+import javax.annotation.Nullable;
+import jdk.jfr.Category;
+import jdk.jfr.Configuration;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Flight recorder events for the work done by the launcher, and the recording started by --jfr.
+ */
+@Slf4j
+class LauncherEvents
+{
+	@Name("net.runelite.launcher.BootstrapFetch")
+	@Label("Bootstrap Fetch")
+	@Category({"RuneLite", "Launcher"})
+	static class BootstrapFetch extends Event
+	{
+		@Label("URL")
+		String url;
+
+		@Label("Success")
+		boolean success;
+	}
+
+	@Name("net.runelite.launcher.ArtifactDownload")
+	@Label("Artifact Download")
+	@Category({"RuneLite", "Launcher"})
+	static class ArtifactDownload extends Event
+	{
+		@Label("Artifact")
+		String artifact;
+
+		@Label("Diff")
+		boolean diff;
+
+		@Label("Mirror")
+		boolean mirror;
+
+		@Label("Bytes")
+		@DataAmount
+		long bytes;
+
+		@Label("Success")
+		boolean success;
+	}
+
+	@Name("net.runelite.launcher.Hash")
+	@Label("Hash")
+	@Category({"RuneLite", "Launcher"})
+	static class Hash extends Event
+	{
+		@Label("Path")
+		String path;
+
+		@Label("Size")
+		@DataAmount
+		long size;
+	}
+
+	@Name("net.runelite.launcher.Patch")
+	@Label("Patch")
+	@Category({"RuneLite", "Launcher"})
+	static class Patch extends Event
+	{
+		@Label("Artifact")
+		String artifact;
+
+		@Label("From")
+		String from;
+	}
+
+	@Name("net.runelite.launcher.Launch")
+	@Label("Launch")
+	@Category({"RuneLite", "Launcher"})
+	static class Launch extends Event
+	{
+		@Label("Launch Mode")
+		String mode;
+	}
+
+	@Nullable
+	static Recording startRecording()
+	{
+		try
+		{
+			Recording recording = new Recording(Configuration.getConfiguration("profile"));
+			recording.setName("RuneLite Launcher");
+			recording.setToDisk(true);
+			recording.start();
+			log.info("Started flight recording");
+			return recording;
+		}
+		catch (IOException | ParseException | RuntimeException ex)
+		{
+			log.warn("unable to start flight recording", ex);
+			return null;
+		}
+	}
+
+	static void stopRecording(Recording recording)
+	{
+		var file = new File(Launcher.LOGS_DIR, "launcher.jfr");
+		try (recording)
+		{
+			recording.stop();
+			recording.dump(file.toPath());
+			log.info("Wrote flight recording to {}", file);
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			log.warn("unable to write flight recording", ex);
+		}
+	}
+}
@@ -39,6 +39,7 @@ public class LauncherProperties
 	private static final String DOWNLOAD_LINK = "runelite.download.link";
 	private static final String BOOTSTRAP = "runelite.bootstrap";
 	private static final String BOOTSTRAPSIG = "runelite.bootstrapsig";
+	private static final String BOOTSTRAP_CERTIFICATE = "runelite.bootstrap.certificate";
 	private static final String MAIN = "runelite.main";
 	private static final String RUNELITE_128 = "runelite.128";
 	private static final String RUNELITE_SPLASH = "runelite.splash";
@@ -89,14 +90,21 @@ public class LauncherProperties
 		return properties.getProperty(DOWNLOAD_LINK);
 	}
 
+	// the bootstrap urls and certificate can be overridden with system properties, eg. to test against a local server
 	public static String getBootstrap()
 	{
-		return properties.getProperty(BOOTSTRAP);
+		return System.getProperty(BOOTSTRAP, properties.getProperty(BOOTSTRAP));
 	}
 
 	public static String getBootstrapSig()
 	{
-		return properties.getProperty(BOOTSTRAPSIG);
+		return System.getProperty(BOOTSTRAPSIG, properties.getProperty(BOOTSTRAPSIG));
+	}
+
+	// path to the certificate the bootstrap is signed with, or null to use the bundled certificate
+	public static String getBootstrapCertificate()
+	{
+		return System.getProperty(BOOTSTRAP_CERTIFICATE);
 	}
 
 	public static String getMain()
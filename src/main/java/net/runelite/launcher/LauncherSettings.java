@@ -68,12 +68,23 @@ class LauncherSettings
 	boolean noupdates;
 	boolean safemode;
 	boolean ipv4;
+	boolean paranoid;
+	boolean nocds;
 	@Nullable
 	Double scale;
 	List<String> clientArguments = Collections.emptyList();
 	List<String> jvmArguments = Collections.emptyList();
 	HardwareAccelerationMode hardwareAccelerationMode = HardwareAccelerationMode.AUTO;
 	LaunchMode launchMode = LaunchMode.AUTO;
+	int downloadThreads = 4;
+	int downloadSegments = 1;
+	@Nullable
+	String artifactStore;
+	@Nullable
+	String artifactMirror;
+	List<String> mirrors = Collections.emptyList();
+	int instances = 1;
+	int instanceDelay = 3000;
 
 	// override settings with options from cli
 	void apply(OptionSet options)
@@ -86,6 +97,14 @@ class LauncherSettings
 		{
 			nodiffs = true;
 		}
+		if (options.has("paranoid"))
+		{
+			paranoid = true;
+		}
+		if (options.has("nocds"))
+		{
+			nocds = true;
+		}
 		if (options.has("insecure-skip-tls-verification"))
 		{
 			skipTlsVerification = true;
@@ -99,6 +118,39 @@ class LauncherSettings
 			scale = Double.parseDouble(String.valueOf(options.valueOf("scale")));
 		}
 
+		if (options.has("download-threads"))
+		{
+			downloadThreads = (Integer) options.valueOf("download-threads");
+		}
+		if (options.has("download-segments"))
+		{
+			downloadSegments = (Integer) options.valueOf("download-segments");
+		}
+		if (options.has("artifact-store"))
+		{
+			artifactStore = String.valueOf(options.valueOf("artifact-store"));
+		}
+		if (options.has("artifact-mirror"))
+		{
+			artifactMirror = String.valueOf(options.valueOf("artifact-mirror"));
+		}
+		if (options.has("instances"))
+		{
+			instances = (Integer) options.valueOf("instances");
+		}
+		if (options.has("instance-delay"))
+		{
+			instanceDelay = (Integer) options.valueOf("instance-delay");
+		}
+
+		if (options.has("mirror"))
+		{
+			mirrors = options.valuesOf("mirror").stream()
+				.filter(String.class::isInstance)
+				.map(String.class::cast)
+				.collect(Collectors.toList());
+		}
+
 		if (options.has("J"))
 		{
 			jvmArguments = options.valuesOf("J").stream()
@@ -144,11 +196,20 @@ class LauncherSettings
 				" noupdates: {}" + System.lineSeparator() +
 				" safe mode: {}" + System.lineSeparator() +
 				" ipv4: {}" + System.lineSeparator() +
+				" paranoid: {}" + System.lineSeparator() +
+				" nocds: {}" + System.lineSeparator() +
 				" scale: {}" + System.lineSeparator() +
 				" client arguments: {}" + System.lineSeparator() +
 				" jvm arguments: {}" + System.lineSeparator() +
 				" hardware acceleration mode: {}" + System.lineSeparator() +
-				" launch mode: {}",
+				" launch mode: {}" + System.lineSeparator() +
+				" download threads: {}" + System.lineSeparator() +
+				" download segments: {}" + System.lineSeparator() +
+				" artifact store: {}" + System.lineSeparator() +
+				" artifact mirror: {}" + System.lineSeparator() +
+				" mirrors: {}" + System.lineSeparator() +
+				" instances: {}" + System.lineSeparator() +
+				" instance delay: {}ms",
 			new Object[]{
 				debug,
 				nodiffs,
@@ -156,11 +217,20 @@ class LauncherSettings
 				noupdates,
 				safemode,
 				ipv4,
+				paranoid,
+				nocds,
 				scale == null ? "system" : scale,
 				clientArguments.isEmpty() ? "none" : clientArguments,
 				jvmArguments.isEmpty() ? "none" : jvmArguments,
 				hardwareAccelerationMode,
-				launchMode
+				launchMode,
+				downloadThreads,
+				downloadSegments,
+				artifactStore == null ? "none" : artifactStore,
+				artifactMirror == null ? "none" : artifactMirror,
+				mirrors.isEmpty() ? "none" : String.join(", ", mirrors),
+				instances,
+				instanceDelay
 			}
 		).getMessage();
 	}
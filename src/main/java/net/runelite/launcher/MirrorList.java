@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.launcher;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.launcher.beans.Bootstrap;
+
+/**
+ * Hosts which serve the same paths as the hosts of the artifact and diff URLs in the bootstrap, from the settings
+ * and the bootstrap. The first time a host is downloaded from, it and its mirrors are probed in parallel and ranked
+ * by latency. Downloads then go to the fastest, moving on to the next if one fails or is too slow, and hosts which
+ * fail are moved to the back for the rest of the downloads. Whichever host a download is from, it is verified
+ * against the hash from the signed bootstrap.
+ */
+@Slf4j
+class MirrorList
+{
+	private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(3);
+	// a download slower than this over a window is moved to the next host, if there is one
+	private static final long MIN_THROUGHPUT = 32 * 1024;
+	private static final long THROUGHPUT_WINDOW = TimeUnit.SECONDS.toNanos(5);
+
+	// base URLs, without a trailing slash
+	private final List<String> mirrors;
+	// hosts ordered fastest first, keyed by the host of the URLs in the bootstrap. The probes are done outside of the map,
+	// and downloads from the same host wait on the first one's.
+	private final Map<String, CompletableFuture<List<String>>> rankings = new ConcurrentHashMap<>();
+	// hosts which downloads have failed from, and the order they failed in
+	private final Map<String, Long> failures = new ConcurrentHashMap<>();
+	private final AtomicLong failureCount = new AtomicLong();
+
+	MirrorList(List<String> mirrors)
+	{
+		this.mirrors = mirrors;
+	}
+
+	// the mirrors from the settings, followed by those from the bootstrap
+	static MirrorList of(LauncherSettings settings, Bootstrap bootstrap)
+	{
+		Set<String> mirrors = new LinkedHashSet<>(settings.mirrors);
+		if (bootstrap.getMirrors() != null)
+		{
+			mirrors.addAll(List.of(bootstrap.getMirrors()));
+		}
+
+		return new MirrorList(mirrors.stream()
+			.map(mirror -> mirror.endsWith("/") ? mirror.substring(0, mirror.length() - 1) : mirror)
+			.collect(Collectors.toList()));
+	}
+
+	// URLs to download the resource from, fastest first
+	List<String> urls(String url)
+	{
+		if (mirrors.isEmpty())
+		{
+			return List.of(url);
+		}
+
+		final URI uri = URI.create(url);
+		final String origin = origin(uri);
+		final String path = url.substring(origin.length());
+
+		CompletableFuture<List<String>> ranking = new CompletableFuture<>();
+		final CompletableFuture<List<String>> existing = rankings.putIfAbsent(origin, ranking);
+		if (existing == null)
+		{
+			try
+			{
+				ranking.complete(probe(origin, path));
+			}
+			finally
+			{
+				// so that the other downloads aren't left waiting if the probe throws
+				ranking.complete(List.copyOf(hosts(origin)));
+			}
+		}
+		else
+		{
+			ranking = existing;
+		}
+
+		// the sort is stable, so hosts which haven't failed keep their ranking, followed by those which have in the
+		// order they failed
+		return ranking.join().stream()
+			.sorted(Comparator.comparingLong(host -> failures.getOrDefault(host, 0L)))
+			.map(host -> host + path)
+			.collect(Collectors.toList());
+	}
+
+	// move the host of the URL to the back, after a download from it failed
+	void failed(String url)
+	{
+		final Set<String> hosts = new LinkedHashSet<>(rankings.keySet());
+		hosts.addAll(mirrors);
+		for (String host : hosts)
+		{
+			if (url.startsWith(host + "/"))
+			{
+				failures.put(host, failureCount.incrementAndGet());
+				log.debug("Moved {} to the back of the mirror list", host);
+			}
+		}
+	}
+
+	// Wraps the progress of a download so that it throws if it is too slow
+	static IntConsumer throughputMonitor(String url, IntConsumer progress)
+	{
+		final long[] window = {System.nanoTime(), 0};
+		return (completed) ->
+		{
+			progress.accept(completed);
+
+			final long now = System.nanoTime();
+			final long elapsed = now - window[0];
+			if (elapsed >= THROUGHPUT_WINDOW)
+			{
+				final long rate = (completed - window[1]) * TimeUnit.SECONDS.toNanos(1) / elapsed;
+				if (rate < MIN_THROUGHPUT)
+				{
+					throw new UncheckedIOException(new IOException("Download of " + url + " is too slow (" + rate + " bytes/s)"));
+				}
+				window[0] = now;
+				window[1] = completed;
+			}
+		};
+	}
+
+	private List<String> probe(String origin, String path)
+	{
+		final Set<String> hosts = hosts(origin);
+		final long start = System.nanoTime();
+		final Map<String, CompletableFuture<Long>> probes = new LinkedHashMap<>();
+		for (String host : hosts)
+		{
+			final HttpRequest request = HttpRequest.newBuilder()
+				.uri(URI.create(host + path))
+				.header("User-Agent", Launcher.USER_AGENT)
+				.method("HEAD", HttpRequest.BodyPublishers.noBody())
+				.timeout(PROBE_TIMEOUT)
+				.build();
+			probes.put(host, Launcher.httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+				.thenApply(response -> response.statusCode() / 100 == 2 ? System.nanoTime() - start : Long.MAX_VALUE));
+		}
+
+		final Map<String, Long> latencies = new LinkedHashMap<>();
+		for (Map.Entry<String, CompletableFuture<Long>> probe : probes.entrySet())
+		{
+			long latency = Long.MAX_VALUE;
+			try
+			{
+				latency = probe.getValue().get();
+			}
+			catch (InterruptedException ex)
+			{
+				Thread.currentThread().interrupt();
+			}
+			catch (ExecutionException ex)
+			{
+				log.debug("unable to probe {}", probe.getKey(), ex.getCause());
+			}
+			latencies.put(probe.getKey(), latency);
+		}
+
+		// the sort is stable, so hosts which didn't respond stay in order at the back
+		final List<String> ranked = new ArrayList<>(hosts);
+		ranked.sort(Comparator.comparingLong(latencies::get));
+		log.info("Mirrors for {} ranked by latency: {}", origin, ranked.stream()
+			.map(host -> host + (latencies.get(host) == Long.MAX_VALUE ? " (failed)" : " (" + TimeUnit.NANOSECONDS.toMillis(latencies.get(host)) + "ms)"))
+			.collect(Collectors.joining(", ")));
+		return List.copyOf(ranked);
+	}
+
+	private Set<String> hosts(String origin)
+	{
+		// the bootstrap's own host is first if none of them respond
+		final Set<String> hosts = new LinkedHashSet<>();
+		hosts.add(origin);
+		hosts.addAll(mirrors);
+		return hosts;
+	}
+
+	private static String origin(URI uri)
+	{
+		return uri.getScheme() + "://" + uri.getRawAuthority();
+	}
+}
@@ -70,7 +70,16 @@ class PackrConfig
 			vmArgs.add("-Djava.net.preferIPv4Stack=true");
 		}
 
-		patch(config -> config.put("vmArgs", vmArgs));
+		patch(config ->
+		{
+			if (!settings.nocds)
+			{
+				// share the launcher classes between launches too. This is only worked out when there is a config to
+				// patch, as it has to look at the vm args of the running launcher.
+				vmArgs.addAll(CdsArchive.launcherJvmArgs());
+			}
+			config.put("vmArgs", vmArgs);
+		});
 	}
 
 	static void patch(Consumer<Map> configConsumer)
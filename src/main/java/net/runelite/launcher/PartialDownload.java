@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.launcher;
+
+import com.google.common.hash.HashCode;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.security.MessageDigest;
+import java.util.function.IntConsumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A download to a file which is written to a .part file as it is received, along with a .part.json file
+ * recording what is being downloaded. If the download is interrupted, the next download of the same
+ * resource resumes from the end of the .part file with a Range request, conditional on the resource
+ * being unchanged. The resource is identified by its hash, so the download can also resume from another
+ * host serving it, such as a mirror. The .part file is moved to the destination only once its hash has
+ * been verified.
+ */
+@Slf4j
+class PartialDownload
+{
+	static final String PART_SUFFIX = ".part";
+	static final String STATE_SUFFIX = ".part.json";
+
+	static class State
+	{
+		String url;
+		String hash;
+		// validators of the resource the part was downloaded from, for If-Range
+		String etag;
+		String lastModified;
+	}
+
+	static void download(String path, String hash, IntConsumer progress, File dest) throws IOException, VerificationException
+	{
+		final File part = new File(dest.getPath() + PART_SUFFIX);
+		final File stateFile = new File(dest.getPath() + STATE_SUFFIX);
+
+		State state = loadState(stateFile);
+		if (state == null || !hash.equals(state.hash) || !part.isFile())
+		{
+			state = new State();
+			state.url = path;
+			state.hash = hash;
+			Files.deleteIfExists(part.toPath());
+		}
+		// the validators are only meaningful to the host the part was downloaded from. Resuming from another host is
+		// unconditional, and if it serves something else the hash check at the end restarts the download.
+		final boolean sameUrl = path.equals(state.url);
+
+		// The digest state can't be persisted, so rebuild it by hashing what has been downloaded so far.
+		long offset = part.length();
+		MessageDigest digest = Launcher.sha256();
+		if (offset > 0)
+		{
+			Launcher.digest(part, digest);
+		}
+
+		HttpRequest.Builder builder = HttpRequest.newBuilder()
+			.uri(URI.create(path))
+			.header("User-Agent", Launcher.USER_AGENT)
+			.GET();
+		if (offset > 0)
+		{
+			log.debug("Resuming download of {} from {}", path, offset);
+			builder.header("Range", "bytes=" + offset + "-");
+			String validator = state.etag != null ? state.etag : state.lastModified;
+			if (validator != null && sameUrl)
+			{
+				builder.header("If-Range", validator);
+			}
+		}
+
+		HttpResponse<InputStream> response;
+		try
+		{
+			response = Launcher.httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+		}
+		catch (InterruptedException ex)
+		{
+			throw new IOException(ex);
+		}
+
+		final int status = response.statusCode();
+		final boolean resume;
+		if (offset > 0 && status == 206)
+		{
+			String contentRange = response.headers().firstValue("Content-Range").orElse("");
+			if (!contentRange.startsWith("bytes " + offset + "-"))
+			{
+				response.body().close();
+				log.debug("Unexpected content range {} resuming {}, restarting download", contentRange, path);
+				discard(part, stateFile);
+				download(path, hash, progress, dest);
+				return;
+			}
+
+			resume = true;
+		}
+		else if (offset > 0 && status == 416)
+		{
+			// the part is at least as long as the resource, so it must be of a different version of it
+			response.body().close();
+			log.debug("Range not satisfiable resuming {}, restarting download", path);
+			discard(part, stateFile);
+			download(path, hash, progress, dest);
+			return;
+		}
+		else if (status == 200)
+		{
+			if (offset > 0)
+			{
+				// the server either doesn't support ranges or the resource has changed
+				log.debug("Server sent full response resuming {}, restarting download", path);
+			}
+
+			resume = false;
+		}
+		else
+		{
+			response.body().close();
+			throw new IOException("Unable to download " + path + " (status code " + status + ")");
+		}
+
+		if (!resume)
+		{
+			offset = 0;
+			digest.reset();
+		}
+		if (!resume || !sameUrl)
+		{
+			// the rest of the part is from this host now, so later resumes are conditional on its validators
+			state.url = path;
+			state.etag = response.headers().firstValue("ETag")
+				// If-Range requires a strong validator
+				.filter(etag -> !etag.startsWith("W/"))
+				.orElse(null);
+			state.lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+			saveState(stateFile, state);
+		}
+
+		// if this is interrupted the part file and its state are left behind to resume from next time
+		try (InputStream in = response.body();
+			FileOutputStream out = new FileOutputStream(part, resume))
+		{
+			int i;
+			byte[] buffer = new byte[1024 * 1024];
+			while ((i = in.read(buffer)) != -1)
+			{
+				out.write(buffer, 0, i);
+				digest.update(buffer, 0, i);
+				offset += i;
+				StartupReport.bytesDownloaded.addAndGet(i);
+				progress.accept((int) offset);
+			}
+
+			out.getChannel().force(true);
+		}
+
+		HashCode hashCode = HashCode.fromBytes(digest.digest());
+		if (!hash.equals(hashCode.toString()))
+		{
+			discard(part, stateFile);
+			if (resume)
+			{
+				// the part from before may have been corrupted, so try once more without it
+				log.warn("Resumed download of {} failed verification, restarting download", path);
+				download(path, hash, progress, dest);
+				return;
+			}
+			throw new VerificationException("Unable to verify resource " + path + " - expected " + hash + " got " + hashCode.toString());
+		}
+
+		Launcher.atomicMove(part, dest);
+		Files.deleteIfExists(stateFile.toPath());
+	}
+
+	private static void discard(File part, File stateFile) throws IOException
+	{
+		Files.deleteIfExists(part.toPath());
+		Files.deleteIfExists(stateFile.toPath());
+	}
+
+	private static State loadState(File stateFile)
+	{
+		try (var in = new InputStreamReader(Files.newInputStream(stateFile.toPath()), StandardCharsets.UTF_8))
+		{
+			return new Gson().fromJson(in, State.class);
+		}
+		catch (NoSuchFileException ex)
+		{
+			return null;
+		}
+		catch (IOException | JsonParseException ex)
+		{
+			log.debug("unable to load partial download state {}", stateFile, ex);
+			return null;
+		}
+	}
+
+	private static void saveState(File stateFile, State state) throws IOException
+	{
+		try (Writer writer = new OutputStreamWriter(Files.newOutputStream(stateFile.toPath()), StandardCharsets.UTF_8))
+		{
+			new Gson().toJson(state, writer);
+		}
+	}
+}
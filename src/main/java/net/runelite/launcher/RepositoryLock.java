@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.launcher;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Lock held across processes while the repository is cleaned, downloaded to, and verified, so that launchers
+ * started at the same time don't delete or write over each other's files.
+ */
+@Slf4j
+class RepositoryLock implements AutoCloseable
+{
+	// this is outside of the repository so that cleaning it leaves the lock file alone
+	static final File LOCK_FILE = new File(Launcher.RUNELITE_DIR, "repository2.lock");
+
+	// how long to wait for another launcher before carrying on without the lock, since it may be stuck on a download
+	private static final long LOCK_TIMEOUT = TimeUnit.MINUTES.toMillis(5);
+	private static final long POLL_INTERVAL = 100;
+
+	@Nullable
+	private final FileChannel channel;
+
+	private RepositoryLock(@Nullable FileChannel channel)
+	{
+		this.channel = channel;
+	}
+
+	static RepositoryLock lock()
+	{
+		return lock(LOCK_FILE);
+	}
+
+	static RepositoryLock lock(File lockFile)
+	{
+		FileChannel channel = null;
+		try
+		{
+			channel = FileChannel.open(lockFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+			FileLock lock = channel.tryLock();
+			if (lock == null)
+			{
+				log.info("Waiting for another launcher to release {}", lockFile);
+				SplashScreen.stage(.10, null, "Waiting for another launcher");
+
+				final long deadline = System.currentTimeMillis() + LOCK_TIMEOUT;
+				while (lock == null && System.currentTimeMillis() < deadline)
+				{
+					Thread.sleep(POLL_INTERVAL);
+					lock = channel.tryLock();
+				}
+
+				if (lock == null)
+				{
+					log.warn("Timed out waiting for {}, continuing without it", lockFile);
+					close(channel);
+					return new RepositoryLock(null);
+				}
+				log.debug("Acquired lock {}", lockFile);
+			}
+			return new RepositoryLock(channel);
+		}
+		catch (IOException ex)
+		{
+			// eg. on filesystems which don't support locking, in which case carry on without it
+			log.warn("unable to lock {}", lockFile, ex);
+			close(channel);
+			return new RepositoryLock(null);
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			close(channel);
+			return new RepositoryLock(null);
+		}
+	}
+
+	@Override
+	public void close()
+	{
+		// closing the channel releases the lock
+		close(channel);
+	}
+
+	private static void close(@Nullable FileChannel channel)
+	{
+		if (channel == null)
+		{
+			return;
+		}
+
+		try
+		{
+			channel.close();
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to release lock", ex);
+		}
+	}
+}
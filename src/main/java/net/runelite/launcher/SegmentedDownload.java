@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.launcher;
+
+import com.google.common.base.Throwables;
+import com.google.common.hash.HashCode;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntConsumer;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A download which is split into byte ranges that are fetched concurrently over separate connections,
+ * for links which cap the throughput of a single connection. The ranges are written into a preallocated
+ * .part file at their position as they arrive, and the file is hashed in order up to the end of the
+ * contiguous data written from its start.
+ */
+@Slf4j
+class SegmentedDownload
+{
+	// files are not split into segments smaller than this
+	private static final long MIN_SEGMENT_SIZE = 4 * 1024 * 1024;
+
+	private static HttpClient httpClient;
+
+	private final String path;
+	private final long size;
+	private final long segmentSize;
+	private final FileChannel channel;
+	// the number of bytes written to each segment
+	private final AtomicLongArray written;
+	private Throwable failure;
+
+	private SegmentedDownload(String path, long size, int segments, FileChannel channel)
+	{
+		this.path = path;
+		this.size = size;
+		this.segmentSize = (size + segments - 1) / segments;
+		this.channel = channel;
+		this.written = new AtomicLongArray(segments);
+	}
+
+	static void download(String path, String hash, long size, int maxSegments, IntConsumer progress, File dest) throws IOException, VerificationException
+	{
+		final int segments = (int) Math.min(maxSegments, size / MIN_SEGMENT_SIZE);
+		if (segments < 2)
+		{
+			PartialDownload.download(path, hash, progress, dest);
+			return;
+		}
+
+		final File part = new File(dest.getPath() + PartialDownload.PART_SUFFIX);
+		// a segmented download is not resumable, so any state of a previous partial download is now invalid
+		Files.deleteIfExists(new File(dest.getPath() + PartialDownload.STATE_SUFFIX).toPath());
+
+		log.debug("Downloading {} in {} segments", path, segments);
+
+		final ExecutorService executor = Executors.newFixedThreadPool(segments, new ThreadFactoryBuilder()
+			.setNameFormat("segment-%d")
+			.setDaemon(true)
+			.build());
+		boolean success = false;
+		try
+		{
+			try (RandomAccessFile file = new RandomAccessFile(part, "rw"))
+			{
+				file.setLength(size);
+
+				var download = new SegmentedDownload(path, size, segments, file.getChannel());
+
+				// the first segment is requested up front to check the server supports range requests
+				HttpResponse<InputStream> first = download.request(0);
+				if (first.statusCode() == 200)
+				{
+					first.body().close();
+					log.debug("Server does not support range requests for {}", path);
+				}
+				else
+				{
+					for (int i = 0; i < segments; ++i)
+					{
+						final int segment = i;
+						executor.submit(() -> download.fetch(segment, segment == 0 ? first : null));
+					}
+
+					HashCode hashCode = download.hash(progress);
+					if (!hash.equals(hashCode.toString()))
+					{
+						throw new VerificationException("Unable to verify resource " + path + " - expected " + hash + " got " + hashCode.toString());
+					}
+
+					file.getChannel().force(true);
+
+					success = true;
+				}
+			}
+		}
+		finally
+		{
+			executor.shutdownNow();
+			if (!success)
+			{
+				Files.deleteIfExists(part.toPath());
+			}
+		}
+
+		if (success)
+		{
+			Launcher.atomicMove(part, dest);
+		}
+		else
+		{
+			PartialDownload.download(path, hash, progress, dest);
+		}
+	}
+
+	// Multiple requests over HTTP/2 are multiplexed over a single connection, so HTTP/1.1 is used
+	// to give each segment its own connection. This is created on first use so that it uses the
+	// SSLContext setup by the launcher.
+	private static synchronized HttpClient httpClient()
+	{
+		if (httpClient == null)
+		{
+			httpClient = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.followRedirects(HttpClient.Redirect.ALWAYS)
+				.connectTimeout(Launcher.CONNECT_TIMEOUT)
+				.build();
+		}
+		return httpClient;
+	}
+
+	private HttpResponse<InputStream> request(int segment) throws IOException
+	{
+		final long start = segment * segmentSize;
+		final long end = Math.min(start + segmentSize, size) - 1;
+		HttpRequest request = HttpRequest.newBuilder()
+			.uri(URI.create(path))
+			.header("User-Agent", Launcher.USER_AGENT)
+			.header("Range", "bytes=" + start + "-" + end)
+			.GET()
+			.build();
+
+		HttpResponse<InputStream> response;
+		try
+		{
+			response = httpClient().send(request, HttpResponse.BodyHandlers.ofInputStream());
+		}
+		catch (InterruptedException ex)
+		{
+			throw new IOException(ex);
+		}
+
+		if (response.statusCode() == 200 && segment == 0)
+		{
+			// the caller falls back to a normal download
+			return response;
+		}
+
+		String contentRange = response.headers().firstValue("Content-Range").orElse("");
+		if (response.statusCode() != 206 || !contentRange.startsWith("bytes " + start + "-" + end + "/"))
+		{
+			response.body().close();
+			throw new IOException("Unable to download " + path + " range " + start + "-" + end
+				+ " (status code " + response.statusCode() + ", content range " + contentRange + ")");
+		}
+
+		return response;
+	}
+
+	private void fetch(int segment, @Nullable HttpResponse<InputStream> response)
+	{
+		final long start = segment * segmentSize;
+		final long length = Math.min(start + segmentSize, size) - start;
+		try (InputStream in = (response != null ? response : request(segment)).body())
+		{
+			int i;
+			byte[] buffer = new byte[256 * 1024];
+			while ((i = in.read(buffer)) != -1)
+			{
+				long offset = written.get(segment);
+				if (offset + i > length)
+				{
+					throw new IOException("Server sent more data than requested for " + path + " segment " + segment);
+				}
+
+				ByteBuffer buf = ByteBuffer.wrap(buffer, 0, i);
+				while (buf.hasRemaining())
+				{
+					channel.write(buf, start + offset + buf.position());
+				}
+
+				StartupReport.bytesDownloaded.addAndGet(i);
+				synchronized (this)
+				{
+					written.addAndGet(segment, i);
+					notifyAll();
+				}
+			}
+
+			if (written.get(segment) != length)
+			{
+				throw new IOException("Server sent less data than requested for " + path + " segment " + segment);
+			}
+		}
+		catch (Throwable ex)
+		{
+			synchronized (this)
+			{
+				if (failure == null)
+				{
+					failure = ex;
+				}
+				notifyAll();
+			}
+		}
+	}
+
+	// the end of the data which has been written contiguously from the start of the file
+	private long frontier()
+	{
+		long frontier = 0;
+		for (int i = 0; i < written.length(); ++i)
+		{
+			long w = written.get(i);
+			frontier += w;
+			if (w < segmentSize)
+			{
+				break;
+			}
+		}
+		return frontier;
+	}
+
+	private HashCode hash(IntConsumer progress) throws IOException
+	{
+		final MessageDigest digest = Launcher.sha256();
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(1024 * 1024);
+		long hashed = 0;
+		while (hashed < size)
+		{
+			long frontier;
+			synchronized (this)
+			{
+				while ((frontier = frontier()) == hashed && failure == null)
+				{
+					try
+					{
+						wait();
+					}
+					catch (InterruptedException ex)
+					{
+						throw new IOException(ex);
+					}
+				}
+
+				if (failure != null)
+				{
+					Throwables.propagateIfPossible(failure, IOException.class);
+					throw new RuntimeException(failure);
+				}
+			}
+
+			// read back what has been written since, which will still be in the page cache
+			while (hashed < frontier)
+			{
+				buffer.clear();
+				buffer.limit((int) Math.min(buffer.capacity(), frontier - hashed));
+				int i = channel.read(buffer, hashed);
+				if (i == -1)
+				{
+					throw new IOException("unexpected end of file");
+				}
+				buffer.flip();
+				digest.update(buffer);
+				hashed += i;
+			}
+
+			long total = 0;
+			for (int i = 0; i < written.length(); ++i)
+			{
+				total += written.get(i);
+			}
+			progress.accept((int) total);
+		}
+		return HashCode.fromBytes(digest.digest());
+	}
+}
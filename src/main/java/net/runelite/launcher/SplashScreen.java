@@ -27,11 +27,12 @@ package net.runelite.launcher;
 import java.awt.Color;
 import java.awt.Container;
 import java.awt.Font;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.annotation.Nullable;
 import javax.imageio.ImageIO;
 import javax.swing.ImageIcon;
@@ -47,7 +48,7 @@ import javax.swing.plaf.basic.BasicProgressBarUI;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-public class SplashScreen extends JFrame implements ActionListener
+public class SplashScreen extends JFrame
 {
 	private static final Color BRAND_ORANGE = new Color(220, 138, 0);
 	private static final Color DARKER_GRAY_COLOR = new Color(30, 30, 30);
@@ -55,17 +56,37 @@ public class SplashScreen extends JFrame implements ActionListener
 	private static final int WIDTH = 200;
 	private static final int PAD = 10;
 
+	// minimum time between updates of the displayed progress
+	private static final int UPDATE_INTERVAL_MS = 100;
+	// time over which the download rate is sampled
+	private static final long RATE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+	private static final double MiB = 1024 * 1024;
+
 	private static SplashScreen INSTANCE;
 
 	private final JLabel action = new JLabel("Loading");
 	private final JProgressBar progress = new JProgressBar();
 	private final JLabel subAction = new JLabel();
 	private final Timer timer;
+	private final Timer rateTimer;
 
+	// the state to display, which is posted from any thread
 	private volatile double overallProgress = 0;
 	private volatile String actionText = "Loading";
 	private volatile String subActionText = "";
 	private volatile String progressText = null;
+	// progress of a count, or of bytes if mib is set, displayed instead of progressText when total is set
+	private volatile int done;
+	private volatile int total;
+	private volatile boolean mib;
+	private final AtomicBoolean updatePending = new AtomicBoolean();
+
+	// the download rate, only accessed from the EDT
+	private long lastUpdate = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(UPDATE_INTERVAL_MS);
+	private boolean measuringRate;
+	private long rateTime;
+	private int rateDone;
+	private double rate;
 
 	private SplashScreen() throws IOException
 	{
@@ -133,22 +154,78 @@ public class SplashScreen extends JFrame implements ActionListener
 		setSize(WIDTH, y);
 		setLocationRelativeTo(null);
 
-		timer = new Timer(100, this);
-		timer.setRepeats(true);
-		timer.start();
+		// updates are posted as the state changes, and this delays them when they come in faster than the interval
+		timer = new Timer(UPDATE_INTERVAL_MS, e -> update());
+		timer.setRepeats(false);
+		// the rate is sampled on a timer too, so that it still changes while a download is stalled
+		rateTimer = new Timer((int) TimeUnit.NANOSECONDS.toMillis(RATE_INTERVAL_NANOS), e -> update());
 
+		update();
 		setVisible(true);
 	}
 
-	@Override
-	public void actionPerformed(ActionEvent e)
+	private void scheduleUpdate()
+	{
+		long wait = UPDATE_INTERVAL_MS - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastUpdate);
+		if (wait <= 0)
+		{
+			update();
+		}
+		else if (!timer.isRunning())
+		{
+			timer.setInitialDelay((int) wait);
+			timer.start();
+		}
+	}
+
+	private void update()
 	{
+		// changes posted from here on schedule another update
+		updatePending.set(false);
+		lastUpdate = System.nanoTime();
+
+		String subActionText = this.subActionText;
+		String progressText = this.progressText;
+		final int done = this.done;
+		final int total = this.total;
+		if (total > 0)
+		{
+			if (mib)
+			{
+				final double CEIL = 1.d / 10.d;
+				progressText = String.format("%.1f / %.1f MiB", done / MiB, (total / MiB) + CEIL);
+
+				String rateText = rate(done, total);
+				if (rateText != null)
+				{
+					subActionText = rateText;
+				}
+			}
+			else
+			{
+				progressText = done + " / " + total;
+				measuringRate = false;
+			}
+		}
+		else
+		{
+			measuringRate = false;
+		}
+
+		if (!measuringRate)
+		{
+			rateTimer.stop();
+		}
+		else if (!rateTimer.isRunning())
+		{
+			rateTimer.start();
+		}
+
 		action.setText(actionText);
 		subAction.setText(subActionText);
 		progress.setMaximum(1000);
 		progress.setValue((int) (overallProgress * 1000));
 
-		String progressText = this.progressText;
 		if (progressText == null)
 		{
 			progress.setStringPainted(false);
@@ -160,6 +237,48 @@ public class SplashScreen extends JFrame implements ActionListener
 		}
 	}
 
+	// the download rate and time remaining, once enough has been downloaded to measure it
+	@Nullable
+	private String rate(int done, int total)
+	{
+		final long now = System.nanoTime();
+		if (!measuringRate || done < rateDone)
+		{
+			measuringRate = true;
+			rateTime = now;
+			rateDone = done;
+			rate = 0;
+			return null;
+		}
+
+		if (now - rateTime >= RATE_INTERVAL_NANOS)
+		{
+			if (done == rateDone)
+			{
+				// nothing arrived over the whole sample, so hide the rate until the download resumes and it is measured
+				// again, rather than showing a time remaining which is no longer counting down
+				rate = 0;
+			}
+			else
+			{
+				double sample = (done - rateDone) / ((now - rateTime) / 1e9);
+				// smooth the rate out over the last few samples
+				rate = rate == 0 ? sample : rate * .7 + sample * .3;
+			}
+			rateTime = now;
+			rateDone = done;
+		}
+
+		if (rate <= 0)
+		{
+			return null;
+		}
+
+		long remaining = (long) ((total - done) / rate);
+		String eta = remaining < 60 ? remaining + "s" : String.format("%dm %02ds", remaining / 60, remaining % 60);
+		return String.format("%.1f MiB/s, %s left", rate / MiB, eta);
+	}
+
 	public static void init()
 	{
 		try
@@ -198,6 +317,7 @@ public class SplashScreen extends JFrame implements ActionListener
 			}
 
 			INSTANCE.timer.stop();
+			INSTANCE.rateTimer.stop();
 			// The CLOSE_ALL_WINDOWS quit strategy on MacOS dispatches WINDOW_CLOSING events to each frame
 			// from Window.getWindows. However, getWindows uses weak refs and relies on gc to remove windows
 			// from its list, causing events to get dispatched to disposed frames. The frames handle the events
@@ -214,35 +334,60 @@ public class SplashScreen extends JFrame implements ActionListener
 		stage(overallProgress, actionText, subActionText, null);
 	}
 
+	// This is called for every chunk of a download, so it only stores the counts, and the text is formatted on the
+	// EDT once the displayed value changes
 	public static void stage(double startProgress, double endProgress,
 		@Nullable String actionText, String subActionText,
 		int done, int total, boolean mib)
 	{
-		String progress;
-		if (mib)
+		SplashScreen splash = INSTANCE;
+		if (splash != null)
 		{
-			final double MiB = 1024 * 1024;
-			final double CEIL = 1.d / 10.d;
-			progress = String.format("%.1f / %.1f MiB", done / MiB, (total / MiB) + CEIL);
+			splash.post(startProgress + ((endProgress - startProgress) * done / total), actionText, subActionText, null, done, total, mib);
 		}
-		else
+	}
+
+	public static void stage(double overallProgress, @Nullable String actionText, String subActionText, @Nullable String progressText)
+	{
+		SplashScreen splash = INSTANCE;
+		if (splash != null)
 		{
-			progress = done + " / " + total;
+			splash.post(overallProgress, actionText, subActionText, progressText, 0, 0, false);
 		}
-		stage(startProgress + ((endProgress - startProgress) * done / total), actionText, subActionText, progress);
 	}
 
-	public static void stage(double overallProgress, @Nullable String actionText, String subActionText, @Nullable String progressText)
+	private void post(double overallProgress, @Nullable String actionText, String subActionText, @Nullable String progressText,
+		int done, int total, boolean mib)
 	{
-		if (INSTANCE != null)
+		boolean changed = (int) (overallProgress * 1000) != (int) (this.overallProgress * 1000)
+			|| (actionText != null && !actionText.equals(this.actionText))
+			|| !Objects.equals(subActionText, this.subActionText)
+			|| !Objects.equals(progressText, this.progressText)
+			|| total != this.total
+			|| mib != this.mib
+			|| displayed(done, mib) != displayed(this.done, this.mib);
+
+		this.overallProgress = overallProgress;
+		if (actionText != null)
 		{
-			INSTANCE.overallProgress = overallProgress;
-			if (actionText != null)
-			{
-				INSTANCE.actionText = actionText;
-			}
-			INSTANCE.subActionText = subActionText;
-			INSTANCE.progressText = progressText;
+			this.actionText = actionText;
+		}
+		this.subActionText = subActionText;
+		this.progressText = progressText;
+		this.done = done;
+		this.total = total;
+		this.mib = mib;
+
+		// coalesce the changes into a single update on the EDT
+		if (changed && updatePending.compareAndSet(false, true))
+		{
+			SwingUtilities.invokeLater(this::scheduleUpdate);
 		}
 	}
+
+	// the displayed value of a count, which is tenths of a MiB for bytes
+	private static int displayed(int done, boolean mib)
+	{
+		return mib ? (int) (done / (MiB / 10)) : done;
+	}
 }
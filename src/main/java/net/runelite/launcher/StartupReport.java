@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.launcher;
+
+import com.google.common.base.Stopwatch;
+import com.google.gson.GsonBuilder;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Timings of the stages of startup, and counters of the work done during them, which are written as
+ * json to the logs directory after each launch.
+ */
+@Slf4j
+class StartupReport
+{
+	static final File STARTUP_REPORT_FILE = new File(Launcher.LOGS_DIR, "startup-report.json");
+
+	static final AtomicLong bytesDownloaded = new AtomicLong();
+	static final AtomicInteger filesHashed = new AtomicInteger();
+	static final AtomicInteger hashCacheHits = new AtomicInteger();
+
+	private static final Instant start = Instant.now();
+	private static final Stopwatch total = Stopwatch.createStarted();
+	private static final Stopwatch stopwatch = Stopwatch.createStarted();
+	// stage name -> milliseconds
+	private static final Map<String, Long> stages = new LinkedHashMap<>();
+	private static String stage;
+
+	// end the current stage and start the next
+	static synchronized void stage(String name)
+	{
+		if (stage != null)
+		{
+			stages.merge(stage, stopwatch.elapsed(TimeUnit.MILLISECONDS), Long::sum);
+		}
+		stopwatch.reset().start();
+		stage = name;
+	}
+
+	static synchronized void write()
+	{
+		stage(null);
+
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("launcherVersion", LauncherProperties.getVersion());
+		report.put("start", start.toString());
+		report.put("totalMs", total.elapsed(TimeUnit.MILLISECONDS));
+		report.put("stagesMs", stages);
+		report.put("bytesDownloaded", bytesDownloaded.get());
+		report.put("filesHashed", filesHashed.get());
+		report.put("hashCacheHits", hashCacheHits.get());
+
+		try (Writer writer = new OutputStreamWriter(Files.newOutputStream(STARTUP_REPORT_FILE.toPath()), StandardCharsets.UTF_8))
+		{
+			new GsonBuilder()
+				.setPrettyPrinting()
+				.create()
+				.toJson(report, writer);
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to write startup report", ex);
+		}
+
+		log.debug("Startup took {}ms: {}", report.get("totalMs"), stages);
+	}
+}
@@ -26,10 +26,10 @@ package net.runelite.launcher;
 
 import com.google.common.escape.Escapers;
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.nio.file.CopyOption;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
@@ -52,6 +52,7 @@ import javax.xml.parsers.DocumentBuilderFactory;
 import lombok.extern.slf4j.Slf4j;
 import static net.runelite.launcher.Launcher.LAUNCHER_EXECUTABLE_NAME_OSX;
 import static net.runelite.launcher.Launcher.LAUNCHER_EXECUTABLE_NAME_WIN;
+import static net.runelite.launcher.Launcher.RUNELITE_DIR;
 import static net.runelite.launcher.Launcher.compareVersion;
 import static net.runelite.launcher.Launcher.download;
 import static net.runelite.launcher.Launcher.regQueryString;
@@ -65,6 +66,8 @@ import org.w3c.dom.NodeList;
 @Slf4j
 class Updater
 {
+	private static final File UPDATES_DIR = new File(RUNELITE_DIR, "updates");
+
 	static void update(Bootstrap bootstrap, LauncherSettings launcherSettings, String[] args)
 	{
 		var update = findAvailableUpdate(bootstrap);
@@ -89,18 +92,18 @@ class Updater
 		switch (OS.getOs())
 		{
 			case Windows:
-				updateWindows(update, args);
+				updateWindows(update, launcherSettings, args);
 				break;
 			case MacOS:
-				updateMacos(update, args);
+				updateMacos(update, launcherSettings, args);
 				break;
 			case Linux:
-				updateLinux(update, args);
+				updateLinux(update, launcherSettings, args);
 				break;
 		}
 	}
 
-	private static void updateLinux(Update newestUpdate, String[] args)
+	private static void updateLinux(Update newestUpdate, LauncherSettings launcherSettings, String[] args)
 	{
 		var appimage = System.getenv("APPIMAGE");
 		if (appimage == null)
@@ -135,23 +138,15 @@ class Updater
 		{
 			log.info("Downloading launcher {} from {}", newestUpdate.getVersion(), newestUpdate.getUrl());
 
-			var file = Files.createTempFile("rlupdate", "AppImage");
-			try (OutputStream fout = Files.newOutputStream(file))
+			Path file;
+			try
 			{
-				final var name = newestUpdate.getName();
-				final var size = newestUpdate.getSize();
-				try
-				{
-					download(newestUpdate.getUrl(), newestUpdate.getHash(), (completed) ->
-							SplashScreen.stage(.07, 1., null, name, completed, size, true),
-						fout);
-				}
-				catch (VerificationException e)
-				{
-					log.error("unable to verify update", e);
-					file.toFile().delete();
-					return;
-				}
+				file = downloadUpdate(newestUpdate, "AppImage", launcherSettings.getDownloadSegments());
+			}
+			catch (VerificationException e)
+			{
+				log.error("unable to verify update", e);
+				return;
 			}
 
 			// point of no return
@@ -178,7 +173,7 @@ class Updater
 		}
 	}
 
-	private static void updateMacos(Update newestUpdate, String[] args)
+	private static void updateMacos(Update newestUpdate, LauncherSettings launcherSettings, String[] args)
 	{
 		ProcessHandle current = ProcessHandle.current();
 		var command = current.info().command();
@@ -238,23 +233,15 @@ class Updater
 		{
 			log.info("Downloading launcher {} from {}", newestUpdate.getVersion(), newestUpdate.getUrl());
 
-			var file = Files.createTempFile("rlupdate", "dmg");
-			try (OutputStream fout = Files.newOutputStream(file))
+			Path file;
+			try
 			{
-				final var name = newestUpdate.getName();
-				final var size = newestUpdate.getSize();
-				try
-				{
-					download(newestUpdate.getUrl(), newestUpdate.getHash(), (completed) ->
-							SplashScreen.stage(.07, 1., null, name, completed, size, true),
-						fout);
-				}
-				catch (VerificationException e)
-				{
-					log.error("unable to verify update", e);
-					file.toFile().delete();
-					return;
-				}
+				file = downloadUpdate(newestUpdate, "dmg", launcherSettings.getDownloadSegments());
+			}
+			catch (VerificationException e)
+			{
+				log.error("unable to verify update", e);
+				return;
 			}
 
 			log.debug("Mounting dmg {}", file);
@@ -363,7 +350,7 @@ class Updater
 		return null;
 	}
 
-	private static void updateWindows(Update newestUpdate, String[] args)
+	private static void updateWindows(Update newestUpdate, LauncherSettings launcherSettings, String[] args)
 	{
 		ProcessHandle current = ProcessHandle.current();
 		if (current.info().command().isEmpty())
@@ -435,23 +422,15 @@ class Updater
 		{
 			log.info("Downloading launcher {} from {}", newestUpdate.getVersion(), newestUpdate.getUrl());
 
-			var file = Files.createTempFile("rlupdate", "exe");
-			try (OutputStream fout = Files.newOutputStream(file))
+			Path file;
+			try
 			{
-				final var name = newestUpdate.getName();
-				final var size = newestUpdate.getSize();
-				try
-				{
-					download(newestUpdate.getUrl(), newestUpdate.getHash(), (completed) ->
-							SplashScreen.stage(.07, 1., null, name, completed, size, true),
-						fout);
-				}
-				catch (VerificationException e)
-				{
-					log.error("unable to verify update", e);
-					file.toFile().delete();
-					return;
-				}
+				file = downloadUpdate(newestUpdate, "exe", launcherSettings.getDownloadSegments());
+			}
+			catch (VerificationException e)
+			{
+				log.error("unable to verify update", e);
+				return;
 			}
 
 			log.info("Launching installer version {}", newestUpdate.getVersion());
@@ -551,6 +530,51 @@ class Updater
 		return Math.random();
 	}
 
+	// Downloads the update to a fixed path for the update version, so that an interrupted download
+	// can be resumed by the next attempt. This holds the repository lock so that launchers started
+	// together don't write to the same file.
+	private static Path downloadUpdate(Update update, String extension, int segments) throws IOException, VerificationException
+	{
+		try (RepositoryLock repositoryLock = RepositoryLock.lock())
+		{
+			return downloadUpdateLocked(update, extension, segments);
+		}
+	}
+
+	private static Path downloadUpdateLocked(Update update, String extension, int segments) throws IOException, VerificationException
+	{
+		UPDATES_DIR.mkdirs();
+
+		final var fileName = "RuneLite-" + update.getVersion() + "." + extension;
+		File[] existingFiles = UPDATES_DIR.listFiles();
+		if (existingFiles != null)
+		{
+			// remove downloads of other versions
+			for (File file : existingFiles)
+			{
+				if (!file.getName().startsWith(fileName) && file.delete())
+				{
+					log.debug("Deleted old update {}", file);
+				}
+			}
+		}
+
+		final var file = new File(UPDATES_DIR, fileName);
+		if (file.isFile() && update.getHash().equals(Launcher.hash(file)))
+		{
+			// downloaded by a launcher which held the lock before this one
+			log.debug("Update {} is already downloaded", file);
+			return file.toPath();
+		}
+
+		final var name = update.getName();
+		final var size = update.getSize();
+		download(update.getUrl(), update.getHash(), size, segments, (completed) ->
+				SplashScreen.stage(.07, 1., null, name, completed, size, true),
+			file);
+		return file.toPath();
+	}
+
 	private static boolean checkBackoff(LauncherSettings settings, Update update)
 	{
 		var hours = update.getRetry() > -1 ? update.getRetry() : (1 << Math.min(8, settings.lastUpdateAttemptNum)); // 256 hours = ~10 days
@@ -43,4 +43,6 @@ public class Bootstrap
 	private String requiredJVMVersion;
 
 	private Update[] updates;
+
+	private String[] mirrors;
 }
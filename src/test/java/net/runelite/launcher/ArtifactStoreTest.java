@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.launcher;
+
+import com.google.common.hash.Hashing;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import net.runelite.launcher.beans.Artifact;
+import org.junit.After;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ArtifactStoreTest
+{
+	private final byte[] data = "artifact".getBytes(StandardCharsets.UTF_8);
+
+	private File root;
+	private File storeDir;
+	private File repoA;
+	private File repoB;
+	private ArtifactStore storeA;
+	private ArtifactStore storeB;
+	private Artifact artifact;
+
+	@Before
+	public void before() throws IOException
+	{
+		root = Files.createTempDirectory("artifactstore").toFile();
+		storeDir = new File(root, "store");
+		repoA = new File(root, "repoA");
+		repoB = new File(root, "repoB");
+		repoA.mkdir();
+		repoB.mkdir();
+
+		LauncherSettings settings = new LauncherSettings();
+		settings.artifactStore = storeDir.getPath();
+		storeA = ArtifactStore.open(settings, repoA);
+		storeB = ArtifactStore.open(settings, repoB);
+		assertNotNull(storeA);
+		assertNotNull(storeB);
+
+		artifact = artifact("artifact.jar", data);
+	}
+
+	@After
+	public void after() throws IOException
+	{
+		try (Stream<Path> paths = Files.walk(root.toPath()))
+		{
+			paths.sorted(Comparator.reverseOrder())
+				.map(Path::toFile)
+				.forEach(File::delete);
+		}
+	}
+
+	private static Artifact artifact(String name, byte[] data)
+	{
+		Artifact artifact = new Artifact();
+		artifact.setName(name);
+		artifact.setHash(Hashing.sha256().hashBytes(data).toString());
+		artifact.setSize(data.length);
+		return artifact;
+	}
+
+	private File addFromA() throws IOException
+	{
+		File src = new File(repoA, artifact.getName());
+		Files.write(src.toPath(), data);
+		storeA.add(artifact, src);
+		return src;
+	}
+
+	private File entry(Artifact artifact)
+	{
+		return new File(storeDir, artifact.getHash());
+	}
+
+	@Test
+	public void testAddAndFetchLinks() throws IOException
+	{
+		File src = addFromA();
+		assertTrue(Files.isSameFile(src.toPath(), entry(artifact).toPath()));
+
+		File dest = new File(repoB, artifact.getName());
+		assertTrue(storeB.fetch(artifact, dest, HashCache.load(true)));
+		assertArrayEquals(data, Files.readAllBytes(dest.toPath()));
+		// entries owned by the same user are linked rather than copied
+		assertTrue(Files.isSameFile(src.toPath(), dest.toPath()));
+	}
+
+	@Test
+	public void testAddKeepsPermissions() throws IOException
+	{
+		assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+
+		File src = new File(repoA, artifact.getName());
+		Files.write(src.toPath(), data);
+		Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-------");
+		Files.setPosixFilePermissions(src.toPath(), permissions);
+
+		storeA.add(artifact, src);
+
+		// the entry is the repository's own file, so it isn't made readable by other users
+		assertTrue(entry(artifact).exists());
+		assertEquals(permissions, Files.getPosixFilePermissions(src.toPath()));
+	}
+
+	@Test
+	public void testFetchMissing()
+	{
+		File dest = new File(repoB, artifact.getName());
+		assertFalse(storeB.fetch(artifact, dest, HashCache.load(true)));
+		assertFalse(dest.exists());
+	}
+
+	@Test
+	public void testFetchCorrupt() throws IOException
+	{
+		Files.write(entry(artifact).toPath(), "corrupt".getBytes(StandardCharsets.UTF_8));
+
+		File dest = new File(repoB, artifact.getName());
+		assertFalse(storeB.fetch(artifact, dest, HashCache.load(true)));
+		assertFalse(dest.exists());
+		assertFalse(entry(artifact).exists());
+	}
+
+	@Test
+	public void testCleanKeepsEntriesReferencedElsewhere() throws IOException
+	{
+		addFromA();
+		assertTrue(storeB.fetch(artifact, new File(repoB, artifact.getName()), HashCache.load(true)));
+
+		// repository A no longer uses it, but B still does
+		storeA.clean(List.of());
+		assertTrue(entry(artifact).exists());
+
+		storeB.clean(List.of());
+		assertFalse(entry(artifact).exists());
+	}
+
+	@Test
+	public void testCleanKeepsCurrent() throws IOException
+	{
+		addFromA();
+
+		storeA.clean(List.of(artifact));
+		assertTrue(entry(artifact).exists());
+
+		storeA.clean(List.of());
+		assertFalse(entry(artifact).exists());
+	}
+
+	@Test
+	public void testCleanKeepsUnreferenced() throws IOException
+	{
+		// eg. copied into the store by another user, so it has one link but may still be used
+		Artifact other = artifact("other.jar", "other".getBytes(StandardCharsets.UTF_8));
+		Files.write(entry(other).toPath(), "other".getBytes(StandardCharsets.UTF_8));
+		addFromA();
+
+		storeA.clean(List.of());
+		assertFalse(entry(artifact).exists());
+		assertTrue(entry(other).exists());
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.launcher;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Base64;
+import org.junit.After;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BootstrapCacheTest
+{
+	private static final String URL = "https://static.runelite.net/bootstrap.json";
+
+	private File dir;
+	private File file;
+
+	@Before
+	public void before() throws IOException
+	{
+		dir = Files.createTempDirectory("bootstrapcache").toFile();
+		file = new File(dir, "bootstrap-cache.json");
+	}
+
+	@After
+	public void after()
+	{
+		for (File file : dir.listFiles())
+		{
+			file.delete();
+		}
+		dir.delete();
+	}
+
+	@Test
+	public void testSaveLoad()
+	{
+		byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+		BootstrapCache cache = new BootstrapCache();
+		cache.bootstrap = new BootstrapCache.Resource();
+		cache.bootstrap.url = URL;
+		cache.bootstrap.body = Base64.getEncoder().encodeToString(body);
+		cache.bootstrap.etag = "\"v1\"";
+		cache.save(file);
+
+		// only the cache file is left behind
+		assertEquals(1, dir.listFiles().length);
+
+		BootstrapCache loaded = BootstrapCache.load(file);
+		BootstrapCache.Resource resource = BootstrapCache.cached(loaded.bootstrap, URL);
+		assertNotNull(resource);
+		assertArrayEquals(body, resource.bytes());
+		assertEquals("\"v1\"", resource.etag);
+		assertNull(BootstrapCache.cached(loaded.signature, URL));
+		assertNull(BootstrapCache.cached(loaded.bootstrap, URL + ".sha256"));
+	}
+
+	@Test
+	public void testCorruptFile() throws IOException
+	{
+		Files.write(file.toPath(), "{\"bootstrap\": {\"url\":".getBytes(StandardCharsets.UTF_8));
+
+		BootstrapCache cache = BootstrapCache.load(file);
+		assertNotNull(cache);
+		assertNull(cache.bootstrap);
+	}
+
+	@Test
+	public void testMissingFile()
+	{
+		BootstrapCache cache = BootstrapCache.load(file);
+		assertNotNull(cache);
+		assertNull(cache.bootstrap);
+	}
+
+	@Test
+	public void testCorruptBody()
+	{
+		BootstrapCache.Resource resource = new BootstrapCache.Resource();
+		resource.url = URL;
+		resource.body = "not base64!";
+
+		assertNull(BootstrapCache.cached(resource, URL));
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.launcher;
+
+import com.google.common.hash.Hashing;
+import com.sun.net.httpserver.HttpServer;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Random;
+import net.runelite.launcher.beans.Artifact;
+import org.junit.After;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CacheServerTest
+{
+	private final byte[] data = new byte[64 * 1024];
+	private final HttpClient httpClient = HttpClient.newHttpClient();
+
+	private HttpServer server;
+	private File dir;
+	private File file;
+	private String url;
+	private String hash;
+
+	@Before
+	public void before() throws IOException
+	{
+		new Random(42).nextBytes(data);
+		hash = Hashing.sha256().hashBytes(data).toString();
+
+		dir = Files.createTempDirectory("cacheserver").toFile();
+		file = new File(dir, "artifact.jar");
+		Files.write(file.toPath(), data);
+
+		Artifact artifact = new Artifact();
+		artifact.setName(file.getName());
+		artifact.setHash(hash);
+		artifact.setSize(data.length);
+
+		LauncherSettings settings = new LauncherSettings();
+		settings.paranoid = true;
+		CacheServer cacheServer = new CacheServer(settings);
+		cacheServer.index(dir, List.of(artifact));
+
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", cacheServer::handle);
+		server.start();
+		url = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+	}
+
+	@After
+	public void after()
+	{
+		server.stop(0);
+		for (File file : dir.listFiles())
+		{
+			file.delete();
+		}
+		dir.delete();
+	}
+
+	private HttpResponse<byte[]> request(String method, String path) throws IOException, InterruptedException
+	{
+		HttpRequest request = HttpRequest.newBuilder(URI.create(url + path))
+			.method(method, HttpRequest.BodyPublishers.noBody())
+			.build();
+		return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+	}
+
+	@Test
+	public void testGet() throws Exception
+	{
+		HttpResponse<byte[]> response = request("GET", hash);
+		assertEquals(200, response.statusCode());
+		assertArrayEquals(data, response.body());
+	}
+
+	@Test
+	public void testHead() throws Exception
+	{
+		HttpResponse<byte[]> response = request("HEAD", hash);
+		assertEquals(200, response.statusCode());
+		assertEquals(0, response.body().length);
+	}
+
+	@Test
+	public void testUnknownHash() throws Exception
+	{
+		String unknown = Hashing.sha256().hashBytes(new byte[0]).toString();
+		assertEquals(404, request("GET", unknown).statusCode());
+		assertEquals(404, request("GET", "../artifact.jar").statusCode());
+	}
+
+	@Test
+	public void testChangedFile() throws Exception
+	{
+		// eg. replaced in the repository since it was indexed
+		byte[] changed = data.clone();
+		changed[0]++;
+		Files.write(file.toPath(), changed);
+
+		assertEquals(404, request("GET", hash).statusCode());
+	}
+
+	@Test
+	public void testMethodNotAllowed() throws Exception
+	{
+		assertEquals(405, request("DELETE", hash).statusCode());
+	}
+}
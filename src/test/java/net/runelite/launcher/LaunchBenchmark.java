@@ -0,0 +1,365 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.launcher;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
+import com.google.gson.Gson;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.cert.Certificate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongFunction;
+import net.runelite.launcher.beans.Artifact;
+import net.runelite.launcher.beans.Bootstrap;
+import net.runelite.launcher.beans.Diff;
+
+/**
+ * End-to-end launch benchmark. A local server serves a synthetic bootstrap, signed with a throwaway
+ * key, along with its artifacts and diffs, and the launcher is run against it in a child JVM with
+ * --dry-run so that it stops before launching the client. Each iteration times a cold start, a warm
+ * start, an update which is applied with a diff, and an update which has to be fully downloaded.
+ * <p>
+ * Run with ./gradlew launchBenchmark, optionally with -PlaunchBenchmarkIterations=N.
+ */
+public class LaunchBenchmark
+{
+	private static final String KEYSTORE_PASSWORD = "benchmark";
+	private static final int LIBRARIES = 40;
+	private static final int CLIENT_SIZE = 24 * 1024 * 1024;
+	private static final long LAUNCH_TIMEOUT_SECONDS = 300;
+
+	private final Path work;
+	private final Map<String, byte[]> files = new ConcurrentHashMap<>();
+	private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+	private final Random random = new Random(42);
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	private HttpServer server;
+	private String baseUrl;
+	private PrivateKey key;
+	private File certificate;
+
+	// scenario -> results of each run
+	private final Map<String, List<Result>> results = new LinkedHashMap<>();
+
+	// the startup report written by the launcher, and the wall time of the run
+	private static class Result
+	{
+		long wallMs;
+		long totalMs;
+		long bytesDownloaded;
+		Map<String, Long> stagesMs;
+	}
+
+	private LaunchBenchmark(Path work)
+	{
+		this.work = work;
+	}
+
+	public static void main(String[] args) throws Exception
+	{
+		final int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+
+		Path work = Files.createTempDirectory("launchbenchmark");
+		LaunchBenchmark benchmark = new LaunchBenchmark(work);
+		try
+		{
+			benchmark.setup();
+			for (int i = 0; i < iterations; ++i)
+			{
+				System.out.println("Iteration " + (i + 1) + "/" + iterations);
+				benchmark.iteration(work.resolve("home-" + i));
+			}
+			benchmark.report();
+			// the work directory is kept if the benchmark fails, for the launcher logs
+			MoreFiles.deleteRecursively(work, RecursiveDeleteOption.ALLOW_INSECURE);
+		}
+		finally
+		{
+			benchmark.stop();
+		}
+	}
+
+	private void setup() throws IOException, InterruptedException, GeneralSecurityException
+	{
+		// generate a throwaway signing key and certificate for the bootstrap
+		File keystore = work.resolve("bootstrap.p12").toFile();
+		exec(work.resolve("keytool.log").toFile(),
+			Path.of(System.getProperty("java.home"), "bin", "keytool").toString(),
+			"-genkeypair", "-keystore", keystore.getAbsolutePath(), "-storetype", "PKCS12", "-storepass", KEYSTORE_PASSWORD,
+			"-alias", "bootstrap", "-keyalg", "RSA", "-keysize", "2048", "-validity", "1", "-dname", "CN=LaunchBenchmark");
+
+		KeyStore ks = KeyStore.getInstance("PKCS12");
+		try (FileInputStream in = new FileInputStream(keystore))
+		{
+			ks.load(in, KEYSTORE_PASSWORD.toCharArray());
+		}
+		key = (PrivateKey) ks.getKey("bootstrap", KEYSTORE_PASSWORD.toCharArray());
+		Certificate cert = ks.getCertificate("bootstrap");
+		certificate = work.resolve("bootstrap.crt").toFile();
+		Files.write(certificate.toPath(), cert.getEncoded());
+
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", this::handle);
+		server.setExecutor(executor);
+		server.start();
+		baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	private void stop()
+	{
+		if (server != null)
+		{
+			server.stop(0);
+		}
+		executor.shutdownNow();
+	}
+
+	private void iteration(Path home) throws IOException, InterruptedException, GeneralSecurityException
+	{
+		final List<Artifact> libraries = new ArrayList<>();
+		for (int i = 0; i < LIBRARIES; ++i)
+		{
+			// mostly small jars, with the occasional large one
+			int size = i % 10 == 0 ? 4 * 1024 * 1024 : 64 * 1024 + random.nextInt(1024 * 1024);
+			libraries.add(artifact("library-" + i + ".jar", randomBytes(size)));
+		}
+
+		final byte[] client1 = randomBytes(CLIENT_SIZE);
+		final byte[] client2 = client1.clone();
+		for (int i = 0; i < client2.length; i += 4096)
+		{
+			++client2[i];
+		}
+		final byte[] client3 = randomBytes(CLIENT_SIZE);
+
+		final Artifact clientArtifact1 = artifact("client-1.jar", client1);
+		final Artifact clientArtifact2 = artifact("client-2.jar", client2);
+		clientArtifact2.setDiffs(new Diff[]{diff(clientArtifact1, client1, clientArtifact2, client2)});
+		final Artifact clientArtifact3 = artifact("client-3.jar", client3);
+
+		publish(libraries, clientArtifact1);
+		run("cold", home);
+		run("warm", home);
+
+		publish(libraries, clientArtifact2);
+		run("diff update", home);
+		if (requests.containsKey("/artifacts/client-2.jar"))
+		{
+			System.out.println("WARNING: the diff was not applied, and the full artifact was downloaded instead. See " + home.resolve(".runelite/logs/launcher.log"));
+		}
+
+		publish(libraries, clientArtifact3);
+		run("full update", home);
+
+		files.clear();
+		MoreFiles.deleteRecursively(home, RecursiveDeleteOption.ALLOW_INSECURE);
+	}
+
+	private void run(String scenario, Path home) throws IOException, InterruptedException
+	{
+		File report = home.resolve(".runelite/logs/startup-report.json").toFile();
+		report.delete();
+		requests.clear();
+
+		long start = System.nanoTime();
+		exec(work.resolve("launcher.log").toFile(),
+			Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+			"-Duser.home=" + home,
+			"-Djava.awt.headless=true",
+			"-Drunelite.bootstrap=" + baseUrl + "/bootstrap.json",
+			"-Drunelite.bootstrapsig=" + baseUrl + "/bootstrap.json.sha256",
+			"-Drunelite.bootstrap.certificate=" + certificate.getAbsolutePath(),
+			"-cp", System.getProperty("java.class.path"),
+			Launcher.class.getName(),
+			"--dry-run", "--noupdate");
+		long wallMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		verifyRepository(scenario, home.resolve(".runelite/repository2"));
+
+		Result result;
+		try (InputStreamReader in = new InputStreamReader(new FileInputStream(report), StandardCharsets.UTF_8))
+		{
+			result = new Gson().fromJson(in, Result.class);
+		}
+		result.wallMs = wallMs;
+		results.computeIfAbsent(scenario, k -> new ArrayList<>()).add(result);
+
+		System.out.println("  " + scenario + ": " + wallMs + "ms");
+	}
+
+	// the dry run has to have left the repository with exactly the published artifacts
+	private void verifyRepository(String scenario, Path repository) throws IOException
+	{
+		Bootstrap bootstrap = Launcher.parseBootstrap(new ByteArrayInputStream(files.get("/bootstrap.json")));
+		for (Artifact artifact : bootstrap.getArtifacts())
+		{
+			File file = repository.resolve(artifact.getName()).toFile();
+			if (!file.isFile() || !Launcher.hash(file).equals(artifact.getHash()))
+			{
+				throw new IOException(scenario + ": " + artifact.getName() + " is missing or does not match after launching. See " + work.resolve("launcher.log"));
+			}
+		}
+	}
+
+	private void report()
+	{
+		System.out.println();
+		System.out.printf("%-12s %10s %10s %14s %12s  %s%n", "scenario", "wall min", "wall med", "launcher med", "downloaded", "median stages (ms)");
+		results.forEach((scenario, runs) ->
+		{
+			Map<String, Long> stages = new LinkedHashMap<>();
+			runs.get(0).stagesMs.keySet().forEach(stage -> stages.put(stage, median(runs, r -> r.stagesMs.getOrDefault(stage, 0L))));
+
+			System.out.printf("%-12s %8dms %8dms %12dms %10dKB  %s%n",
+				scenario,
+				runs.stream().mapToLong(r -> r.wallMs).min().getAsLong(),
+				median(runs, r -> r.wallMs),
+				median(runs, r -> r.totalMs),
+				median(runs, r -> r.bytesDownloaded) / 1024,
+				stages);
+		});
+	}
+
+	private static long median(List<Result> runs, ToLongFunction<Result> value)
+	{
+		long[] values = runs.stream().mapToLong(value).sorted().toArray();
+		return values[values.length / 2];
+	}
+
+	private void publish(List<Artifact> libraries, Artifact client) throws GeneralSecurityException
+	{
+		List<Artifact> artifacts = new ArrayList<>(libraries);
+		artifacts.add(client);
+
+		Bootstrap bootstrap = new Bootstrap();
+		bootstrap.setArtifacts(artifacts.toArray(new Artifact[0]));
+		byte[] json = new Gson().toJson(bootstrap).getBytes(StandardCharsets.UTF_8);
+
+		Signature signature = Signature.getInstance("SHA256withRSA");
+		signature.initSign(key);
+		signature.update(json);
+
+		files.put("/bootstrap.json", json);
+		files.put("/bootstrap.json.sha256", signature.sign());
+	}
+
+	private Artifact artifact(String name, byte[] data)
+	{
+		files.put("/artifacts/" + name, data);
+
+		Artifact artifact = new Artifact();
+		artifact.setName(name);
+		artifact.setPath(baseUrl + "/artifacts/" + name);
+		artifact.setHash(Hashing.sha256().hashBytes(data).toString());
+		artifact.setSize(data.length);
+		return artifact;
+	}
+
+	private Diff diff(Artifact from, byte[] fromData, Artifact to, byte[] toData) throws IOException
+	{
+		String name = to.getName() + ".diff";
+		byte[] patch = TestPatches.patch(fromData, toData);
+		files.put("/diffs/" + name, patch);
+
+		Diff diff = new Diff();
+		diff.setName(name);
+		diff.setFrom(from.getName());
+		diff.setFromHash(from.getHash());
+		diff.setHash(Hashing.sha256().hashBytes(patch).toString());
+		diff.setPath(baseUrl + "/diffs/" + name);
+		diff.setSize(patch.length);
+		return diff;
+	}
+
+	private byte[] randomBytes(int size)
+	{
+		byte[] data = new byte[size];
+		random.nextBytes(data);
+		return data;
+	}
+
+	private void handle(HttpExchange exchange) throws IOException
+	{
+		String path = exchange.getRequestURI().getPath();
+		requests.computeIfAbsent(path, k -> new AtomicInteger()).incrementAndGet();
+
+		byte[] data = files.get(path);
+		if (data == null)
+		{
+			exchange.sendResponseHeaders(404, -1);
+			exchange.close();
+			return;
+		}
+
+		exchange.sendResponseHeaders(200, data.length);
+		try (OutputStream out = exchange.getResponseBody())
+		{
+			out.write(data);
+		}
+	}
+
+	private static void exec(File log, String... command) throws IOException, InterruptedException
+	{
+		Process process = new ProcessBuilder(command)
+			.redirectErrorStream(true)
+			.redirectOutput(log)
+			.start();
+		if (!process.waitFor(LAUNCH_TIMEOUT_SECONDS, TimeUnit.SECONDS))
+		{
+			process.destroyForcibly();
+			throw new IOException(command[0] + " timed out. See " + log);
+		}
+		if (process.exitValue() != 0)
+		{
+			throw new IOException(command[0] + " exited with " + process.exitValue() + ". See " + log);
+		}
+	}
+}
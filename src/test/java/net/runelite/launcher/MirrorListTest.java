@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.launcher;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MirrorListTest
+{
+	private static final String PATH = "/net/runelite/client/1.0/client-1.0.jar";
+
+	private final AtomicInteger originProbes = new AtomicInteger();
+	private final AtomicInteger mirrorProbes = new AtomicInteger();
+
+	private HttpServer origin;
+	private HttpServer mirror;
+	private HttpClient httpClient;
+	private String originUrl;
+	private String mirrorUrl;
+
+	@Before
+	public void before() throws IOException
+	{
+		// the origin doesn't have the artifact, so the mirror is ranked first
+		origin = server(404, originProbes);
+		mirror = server(200, mirrorProbes);
+		originUrl = "http://127.0.0.1:" + origin.getAddress().getPort();
+		mirrorUrl = "http://127.0.0.1:" + mirror.getAddress().getPort() + "/mirror";
+
+		httpClient = Launcher.httpClient;
+		Launcher.httpClient = HttpClient.newHttpClient();
+	}
+
+	@After
+	public void after()
+	{
+		Launcher.httpClient = httpClient;
+		origin.stop(0);
+		mirror.stop(0);
+	}
+
+	private static HttpServer server(int status, AtomicInteger probes) throws IOException
+	{
+		HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", (HttpExchange exchange) ->
+		{
+			probes.incrementAndGet();
+			exchange.sendResponseHeaders(status, -1);
+			exchange.close();
+		});
+		server.start();
+		return server;
+	}
+
+	@Test
+	public void testNoMirrors()
+	{
+		MirrorList mirrors = new MirrorList(List.of());
+		assertEquals(List.of(originUrl + PATH), mirrors.urls(originUrl + PATH));
+		assertEquals(0, originProbes.get());
+	}
+
+	@Test
+	public void testRanking()
+	{
+		MirrorList mirrors = new MirrorList(List.of(mirrorUrl));
+		assertEquals(List.of(mirrorUrl + PATH, originUrl + PATH), mirrors.urls(originUrl + PATH));
+
+		// the ranking is reused for the other paths on the host
+		assertEquals(List.of(mirrorUrl + "/other.jar", originUrl + "/other.jar"), mirrors.urls(originUrl + "/other.jar"));
+		assertEquals(1, originProbes.get());
+		assertEquals(1, mirrorProbes.get());
+	}
+
+	@Test
+	public void testFailover()
+	{
+		MirrorList mirrors = new MirrorList(List.of(mirrorUrl));
+		mirrors.urls(originUrl + PATH);
+
+		mirrors.failed(mirrorUrl + PATH);
+		assertEquals(List.of(originUrl + PATH, mirrorUrl + PATH), mirrors.urls(originUrl + PATH));
+
+		// the host which failed most recently goes last
+		mirrors.failed(originUrl + PATH);
+		assertEquals(List.of(mirrorUrl + PATH, originUrl + PATH), mirrors.urls(originUrl + PATH));
+	}
+
+	@Test
+	public void testUnreachableMirror() throws IOException
+	{
+		HttpServer unreachable = server(200, new AtomicInteger());
+		String unreachableUrl = "http://127.0.0.1:" + unreachable.getAddress().getPort();
+		unreachable.stop(0);
+
+		// hosts which don't respond stay in order behind those which do
+		MirrorList mirrors = new MirrorList(List.of(unreachableUrl, mirrorUrl));
+		assertEquals(List.of(mirrorUrl + PATH, originUrl + PATH, unreachableUrl + PATH), mirrors.urls(originUrl + PATH));
+	}
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.launcher;
+
+import com.google.common.hash.Hashing;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntConsumer;
+import org.junit.After;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PartialDownloadTest
+{
+	private static final String ETAG = "\"v1\"";
+	private static final IntConsumer NO_PROGRESS = (completed) ->
+	{
+	};
+
+	private final byte[] data = new byte[4 * 1024 * 1024];
+	private final List<String> ranges = new ArrayList<>();
+	private final List<String> ifRanges = new ArrayList<>();
+	private boolean truncate;
+	private boolean supportRanges = true;
+
+	private HttpServer server;
+	private HttpClient httpClient;
+	private File dir;
+	private String url;
+	private String hash;
+
+	@Before
+	public void before() throws IOException
+	{
+		new Random(42).nextBytes(data);
+		hash = Hashing.sha256().hashBytes(data).toString();
+
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/artifact.jar", this::handle);
+		server.createContext("/mirror/artifact.jar", this::handle);
+		server.start();
+		url = "http://127.0.0.1:" + server.getAddress().getPort() + "/artifact.jar";
+
+		dir = Files.createTempDirectory("partialdownload").toFile();
+		httpClient = Launcher.httpClient;
+		Launcher.httpClient = HttpClient.newHttpClient();
+	}
+
+	@After
+	public void after()
+	{
+		Launcher.httpClient = httpClient;
+		server.stop(0);
+		for (File file : dir.listFiles())
+		{
+			file.delete();
+		}
+		dir.delete();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException
+	{
+		String range = exchange.getRequestHeaders().getFirst("Range");
+		ranges.add(range);
+		ifRanges.add(exchange.getRequestHeaders().getFirst("If-Range"));
+
+		int offset = 0;
+		exchange.getResponseHeaders().add("ETag", ETAG);
+		if (range != null && supportRanges)
+		{
+			offset = Integer.parseInt(range.substring("bytes=".length(), range.length() - 1));
+			exchange.getResponseHeaders().add("Content-Range", "bytes " + offset + "-" + (data.length - 1) + "/" + data.length);
+			exchange.sendResponseHeaders(206, data.length - offset);
+		}
+		else
+		{
+			exchange.sendResponseHeaders(200, data.length);
+		}
+
+		try (OutputStream out = exchange.getResponseBody())
+		{
+			if (truncate)
+			{
+				// simulate the connection dropping halfway through
+				out.write(data, offset, (data.length - offset) / 2);
+				out.flush();
+				exchange.close();
+				return;
+			}
+
+			out.write(data, offset, data.length - offset);
+		}
+	}
+
+	@Test
+	public void testResume() throws Exception
+	{
+		File dest = new File(dir, "artifact.jar");
+		File part = new File(dir, "artifact.jar" + PartialDownload.PART_SUFFIX);
+
+		truncate = true;
+		try
+		{
+			PartialDownload.download(url, hash, NO_PROGRESS, dest);
+			fail("download should have been interrupted");
+		}
+		catch (IOException ex)
+		{
+			// expected
+		}
+
+		assertFalse(dest.exists());
+		long partial = part.length();
+		assertTrue(partial > 0 && partial < data.length);
+
+		truncate = false;
+		PartialDownload.download(url, hash, NO_PROGRESS, dest);
+
+		assertArrayEquals(data, Files.readAllBytes(dest.toPath()));
+		assertFalse(part.exists());
+		assertEquals("bytes=" + partial + "-", ranges.get(1));
+		assertEquals(ETAG, ifRanges.get(1));
+	}
+
+	@Test
+	public void testResumeFromAnotherHost() throws Exception
+	{
+		File dest = new File(dir, "artifact.jar");
+		File part = new File(dir, "artifact.jar" + PartialDownload.PART_SUFFIX);
+
+		truncate = true;
+		try
+		{
+			PartialDownload.download(url, hash, NO_PROGRESS, dest);
+			fail("download should have been interrupted");
+		}
+		catch (IOException ex)
+		{
+			// expected
+		}
+
+		long partial = part.length();
+		assertTrue(partial > 0 && partial < data.length);
+
+		truncate = false;
+		String mirrorUrl = url.replace("/artifact.jar", "/mirror/artifact.jar");
+		PartialDownload.download(mirrorUrl, hash, NO_PROGRESS, dest);
+
+		assertArrayEquals(data, Files.readAllBytes(dest.toPath()));
+		assertEquals("bytes=" + partial + "-", ranges.get(1));
+		// the validator is from the other host, so it isn't sent
+		assertNull(ifRanges.get(1));
+	}
+
+	@Test
+	public void testRangeIgnored() throws Exception
+	{
+		File dest = new File(dir, "artifact.jar");
+
+		truncate = true;
+		try
+		{
+			PartialDownload.download(url, hash, NO_PROGRESS, dest);
+			fail("download should have been interrupted");
+		}
+		catch (IOException ex)
+		{
+			// expected
+		}
+
+		truncate = false;
+		supportRanges = false;
+		PartialDownload.download(url, hash, NO_PROGRESS, dest);
+
+		assertArrayEquals(data, Files.readAllBytes(dest.toPath()));
+		assertNotNull(ranges.get(1));
+	}
+
+	@Test
+	public void testResumedVerificationFailure() throws Exception
+	{
+		File dest = new File(dir, "artifact.jar");
+		File part = new File(dir, "artifact.jar" + PartialDownload.PART_SUFFIX);
+
+		truncate = true;
+		try
+		{
+			PartialDownload.download(url, hash, NO_PROGRESS, dest);
+			fail("download should have been interrupted");
+		}
+		catch (IOException ex)
+		{
+			// expected
+		}
+
+		// corrupt what was downloaded so far
+		byte[] partial = Files.readAllBytes(part.toPath());
+		partial[0] ^= 1;
+		Files.write(part.toPath(), partial);
+
+		truncate = false;
+		PartialDownload.download(url, hash, NO_PROGRESS, dest);
+
+		assertArrayEquals(data, Files.readAllBytes(dest.toPath()));
+		assertEquals("bytes=" + partial.length + "-", ranges.get(1));
+		assertNull(ranges.get(2));
+	}
+
+	@Test
+	public void testVerificationFailure() throws Exception
+	{
+		File dest = new File(dir, "artifact.jar");
+		File part = new File(dir, "artifact.jar" + PartialDownload.PART_SUFFIX);
+
+		try
+		{
+			PartialDownload.download(url, Hashing.sha256().hashInt(0).toString(), NO_PROGRESS, dest);
+			fail("download should have failed verification");
+		}
+		catch (VerificationException ex)
+		{
+			// expected
+		}
+
+		assertFalse(dest.exists());
+		assertFalse(part.exists());
+		assertNull(ranges.get(0));
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.launcher;
+
+import com.google.common.hash.Hashing;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SegmentedDownloadTest
+{
+	private final byte[] data = new byte[12 * 1024 * 1024 + 123];
+	private final Set<String> ranges = Collections.synchronizedSet(new HashSet<>());
+	private final AtomicInteger requests = new AtomicInteger();
+	private boolean supportRanges = true;
+
+	private HttpServer server;
+	private HttpClient httpClient;
+	private File dir;
+	private String url;
+	private String hash;
+
+	@Before
+	public void before() throws IOException
+	{
+		new Random(42).nextBytes(data);
+		hash = Hashing.sha256().hashBytes(data).toString();
+
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.createContext("/client.jar", this::handle);
+		server.start();
+		url = "http://127.0.0.1:" + server.getAddress().getPort() + "/client.jar";
+
+		dir = Files.createTempDirectory("segmenteddownload").toFile();
+		httpClient = Launcher.httpClient;
+		Launcher.httpClient = HttpClient.newHttpClient();
+	}
+
+	@After
+	public void after()
+	{
+		Launcher.httpClient = httpClient;
+		server.stop(0);
+		for (File file : dir.listFiles())
+		{
+			file.delete();
+		}
+		dir.delete();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException
+	{
+		requests.incrementAndGet();
+
+		String range = exchange.getRequestHeaders().getFirst("Range");
+		int start = 0;
+		int end = data.length - 1;
+		if (range != null && supportRanges)
+		{
+			ranges.add(range);
+			String[] split = range.substring("bytes=".length()).split("-");
+			start = Integer.parseInt(split[0]);
+			end = Integer.parseInt(split[1]);
+			exchange.getResponseHeaders().add("Content-Range", "bytes " + start + "-" + end + "/" + data.length);
+			exchange.sendResponseHeaders(206, end - start + 1);
+		}
+		else
+		{
+			exchange.sendResponseHeaders(200, data.length);
+		}
+
+		try (OutputStream out = exchange.getResponseBody())
+		{
+			out.write(data, start, end - start + 1);
+		}
+	}
+
+	@Test
+	public void testDownload() throws Exception
+	{
+		File dest = new File(dir, "client.jar");
+		int[] progress = new int[1];
+		SegmentedDownload.download(url, hash, data.length, 3, (completed) -> progress[0] = completed, dest);
+
+		assertArrayEquals(data, Files.readAllBytes(dest.toPath()));
+		assertEquals(data.length, progress[0]);
+		assertEquals(Set.of("bytes=0-4194344", "bytes=4194345-8388689", "bytes=8388690-12583034"), ranges);
+		assertFalse(new File(dir, "client.jar" + PartialDownload.PART_SUFFIX).exists());
+	}
+
+	@Test
+	public void testRangeIgnored() throws Exception
+	{
+		supportRanges = false;
+
+		File dest = new File(dir, "client.jar");
+		SegmentedDownload.download(url, hash, data.length, 3, (completed) ->
+		{
+		}, dest);
+
+		assertArrayEquals(data, Files.readAllBytes(dest.toPath()));
+		assertTrue(ranges.isEmpty());
+		// the probe for range support, and then the full download
+		assertEquals(2, requests.get());
+	}
+}
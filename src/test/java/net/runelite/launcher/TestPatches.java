@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.launcher;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes gzipped File-by-File v1 patches, as served as artifact diffs, for tests and benchmarks. The
+ * patches treat both files as opaque blobs, with a single bsdiff delta of the bytewise difference
+ * between them followed by any extra bytes of the new file.
+ */
+class TestPatches
+{
+	static byte[] patch(byte[] oldData, byte[] newData) throws IOException
+	{
+		final int common = Math.min(oldData.length, newData.length);
+
+		ByteArrayOutputStream bsdiff = new ByteArrayOutputStream();
+		bsdiff.write("ENDSLEY/BSDIFF43".getBytes(StandardCharsets.US_ASCII));
+		writeBsdiffLong(bsdiff, newData.length);
+		// a single control triple: diff the common length, copy the remainder, and don't seek
+		writeBsdiffLong(bsdiff, common);
+		writeBsdiffLong(bsdiff, newData.length - common);
+		writeBsdiffLong(bsdiff, 0);
+		for (int i = 0; i < common; ++i)
+		{
+			bsdiff.write(newData[i] - oldData[i]);
+		}
+		bsdiff.write(newData, common, newData.length - common);
+
+		ByteArrayOutputStream patch = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(patch)))
+		{
+			out.write("GFbFv1_0".getBytes(StandardCharsets.US_ASCII));
+			out.writeInt(0); // flags
+			out.writeLong(oldData.length); // delta-friendly old file size
+			out.writeInt(0); // old file uncompression instructions
+			out.writeInt(0); // new file recompression instructions
+			out.writeInt(1); // delta records
+			out.writeByte(0); // bsdiff
+			out.writeLong(0); // old file work range
+			out.writeLong(oldData.length);
+			out.writeLong(0); // new file work range
+			out.writeLong(newData.length);
+			out.writeLong(bsdiff.size());
+			bsdiff.writeTo(out);
+		}
+		return patch.toByteArray();
+	}
+
+	// bsdiff longs are little endian sign-magnitude
+	private static void writeBsdiffLong(ByteArrayOutputStream out, long value)
+	{
+		for (int i = 0; i < 8; ++i)
+		{
+			out.write((int) (value >>> (i * 8)));
+		}
+	}
+}